@@ -0,0 +1,58 @@
+package com.nyaa.common.util.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 固定区间 [origin, bound) 的均匀整数采样器
+ * 构造时预先计算拒绝阈值 2^64 mod (bound - origin), 之后每次采样只需一次 128 位乘法, 不再有除法
+ * 不可变, 可在多个线程间共享, 每个线程传入各自的生成器
+ */
+public class BoundedSampler {
+    private static final String NOT_INT_RANGE = "sampler range does not fit in int";
+
+    private final long origin;
+    /**
+     * 区间宽度, 按无符号处理
+     */
+    private final long range;
+    private final long threshold;
+    /**
+     * origin 与 bound - 1 均在 int 范围内, 此时才允许 {@link #sampleInt(RandomGenerator)}
+     */
+    private final boolean intRange;
+
+    public BoundedSampler(long bound) {
+        this(0L, checkBound(bound));
+    }
+
+    public BoundedSampler(long origin, long bound) {
+        RandomSupport.checkRange(origin, bound);
+        this.origin = origin;
+        this.range = bound - origin;
+        this.threshold = Long.remainderUnsigned(-this.range, this.range);
+        this.intRange = origin == (int) origin && bound - 1 == (int) (bound - 1);
+    }
+
+    public long sample(RandomGenerator rng) {
+        long r = rng.nextLong();
+        while (Long.compareUnsigned(r * this.range, this.threshold) < 0) {
+            r = rng.nextLong();
+        }
+        return this.origin + RandomSupport.unsignedMultiplyHigh(r, this.range);
+    }
+
+    /**
+     * @throws IllegalStateException 区间 [origin, bound) 超出 int 范围
+     */
+    public int sampleInt(RandomGenerator rng) {
+        if (!this.intRange) {
+            throw new IllegalStateException(NOT_INT_RANGE);
+        }
+        return (int) this.sample(rng);
+    }
+
+    private static long checkBound(long bound) {
+        RandomSupport.checkBound(bound);
+        return bound;
+    }
+}
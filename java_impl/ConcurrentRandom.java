@@ -0,0 +1,123 @@
+package com.nyaa.common.util.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 线程安全的 V8 随机数生成器
+ * 每个线程首次使用时从根生成器取得一个 {@link Random} 副本, 随后根生成器 jump 2^64 步,
+ * 因此各线程位于互不重叠的子序列上; 之后的调用只访问本线程的状态, 无锁, 无共享写
+ * 注意: 非密码安全
+ */
+public class ConcurrentRandom implements RandomGenerator {
+    /**
+     * 仅在线程首次使用时访问, 由 this 保护
+     */
+    private final Random root;
+    private final ThreadLocal<Random> local = ThreadLocal.withInitial(this::nextSubstream);
+
+    public ConcurrentRandom() {
+        this.root = new Random();
+    }
+
+    public ConcurrentRandom(long seed) {
+        this.root = new Random(seed);
+    }
+
+    private synchronized Random nextSubstream() {
+        Random substream = this.root.copy();
+        this.root.jump();
+        return substream;
+    }
+
+    /**
+     * 当前线程独占的生成器, 不可跨线程传递
+     */
+    public Random current() {
+        return this.local.get();
+    }
+
+    @Override
+    public boolean isDeprecated() {
+        return false;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return this.local.get().nextBoolean();
+    }
+
+    @Override
+    public int nextInt() {
+        return this.local.get().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return this.local.get().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return this.local.get().nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return this.local.get().nextLong();
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return this.local.get().nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return this.local.get().nextLong(origin, bound);
+    }
+
+    @Override
+    public float nextFloat() {
+        return this.local.get().nextFloat();
+    }
+
+    @Override
+    public float nextFloat(float bound) {
+        return this.local.get().nextFloat(bound);
+    }
+
+    @Override
+    public float nextFloat(float origin, float bound) {
+        return this.local.get().nextFloat(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return this.local.get().nextDouble();
+    }
+
+    @Override
+    public double nextDouble(double bound) {
+        return this.local.get().nextDouble(bound);
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        return this.local.get().nextDouble(origin, bound);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        this.local.get().nextBytes(bytes);
+    }
+
+    @Override
+    public double nextExponential() {
+        return this.local.get().nextExponential();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return this.local.get().nextGaussian();
+    }
+}
@@ -1,10 +1,101 @@
 package com.nyaa.common.util.random;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 public class DataCast {
     private static final byte[] CHAR_TABLE_LOWER = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
     private static final byte[] CHAR_TABLE_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    /**
+     * ASCII 十六进制解码表, 非十六进制字符为 -1
+     */
+    private static final byte[] HEX_DECODE = new byte[256];
+    /**
+     * 字节 -> 两个十六进制字符, 高 8 位为第一个字符, 以大端序 short 一次写入
+     */
+    private static final short[] HEX_PAIRS_LOWER = new short[256];
+    private static final short[] HEX_PAIRS_UPPER = new short[256];
+    private static final VarHandle SHORT_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_BUFFER_VIEW = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    static {
+        Arrays.fill(HEX_DECODE, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_DECODE[CHAR_TABLE_LOWER[i]] = (byte) i;
+            HEX_DECODE[CHAR_TABLE_UPPER[i]] = (byte) i;
+        }
+        for (int i = 0; i < 256; i++) {
+            HEX_PAIRS_LOWER[i] = (short) ((CHAR_TABLE_LOWER[i >>> 4] << 8) | CHAR_TABLE_LOWER[i & 0xF]);
+            HEX_PAIRS_UPPER[i] = (short) ((CHAR_TABLE_UPPER[i >>> 4] << 8) | CHAR_TABLE_UPPER[i & 0xF]);
+        }
+    }
+
+    /**
+     * 十六进制字符的值, 非十六进制字符 (包括大于 0xFF 的字符) 返回 -1, 无分支
+     */
+    public static int hexValue(int ch) {
+        return HEX_DECODE[ch & 0xFF] | ((0xFF - ch) >> 31);
+    }
+
+    /**
+     * 0 ~ 15 对应的十六进制字符
+     */
+    public static char hexChar(int nibble, boolean lowerCase) {
+        return (char) (lowerCase ? CHAR_TABLE_LOWER : CHAR_TABLE_UPPER)[nibble & 0xF];
+    }
+
+    /**
+     * 将 value 的低 byteCount 个字节按大端序编码为 2 * byteCount 个字符, 写入 dst[offset] 起始处
+     * 每个字节查表后以一次 short 写入两个字符, 无分支
+     */
+    public static void longToHex(long value, int byteCount, byte[] dst, int offset, boolean lowerCase) {
+        short[] pairs = lowerCase ? HEX_PAIRS_LOWER : HEX_PAIRS_UPPER;
+        for (int i = byteCount - 1; i >= 0; i--) {
+            SHORT_ARRAY_VIEW.set(dst, offset + 2 * i, pairs[(int) value & 0xFF]);
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * 同 {@link #longToHex(long, int, byte[], int, boolean)}, 写入缓冲区的绝对位置 index, 不改变 position
+     */
+    public static void longToHex(long value, int byteCount, ByteBuffer dst, int index, boolean lowerCase) {
+        short[] pairs = lowerCase ? HEX_PAIRS_LOWER : HEX_PAIRS_UPPER;
+        for (int i = byteCount - 1; i >= 0; i--) {
+            SHORT_BUFFER_VIEW.set(dst, index + 2 * i, pairs[(int) value & 0xFF]);
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * 同 {@link #longToHex(long, int, byte[], int, boolean)}, 追加到 sb 末尾, 每个字节查表一次
+     */
+    public static StringBuilder longToHex(long value, int byteCount, StringBuilder sb, boolean lowerCase) {
+        short[] pairs = lowerCase ? HEX_PAIRS_LOWER : HEX_PAIRS_UPPER;
+        for (int shift = 8 * (byteCount - 1); shift >= 0; shift -= 8) {
+            short pair = pairs[(int) (value >>> shift) & 0xFF];
+            sb.append((char) (pair >>> 8)).append((char) (pair & 0xFF));
+        }
+        return sb;
+    }
+
+    /**
+     * 同 {@link #longToHex(long, int, StringBuilder, boolean)}, 追加到任意 Appendable
+     */
+    public static <A extends Appendable> A longToHex(long value, int byteCount, A out, boolean lowerCase) throws IOException {
+        short[] pairs = lowerCase ? HEX_PAIRS_LOWER : HEX_PAIRS_UPPER;
+        for (int shift = 8 * (byteCount - 1); shift >= 0; shift -= 8) {
+            short pair = pairs[(int) (value >>> shift) & 0xFF];
+            out.append((char) (pair >>> 8)).append((char) (pair & 0xFF));
+        }
+        return out;
+    }
 
     public static float toLimitedFloat(long num) {
         int kExponentBits = 0x3F800000;
@@ -18,29 +109,56 @@ public class DataCast {
         return Double.longBitsToDouble(random) - 1.0;
     }
 
+    /**
+     * chars 中非 0 的位置视为分隔符并保留, 其余位置依次填入 bytes 的十六进制字符
+     * 按分隔符切分为连续的空位段, 段内整字节查表写入; 分隔符位于奇数位置 (两个半字节之间) 时只在段首尾补写半字节
+     */
     public static String bytesToHexWithSeparator(byte[] bytes, byte[] chars, boolean lowerCase) {
         byte[] charTable = lowerCase ? CHAR_TABLE_LOWER : CHAR_TABLE_UPPER;
-        for (int i = 0, j = 0; i < bytes.length && j < chars.length; i++) {
+        short[] pairs = lowerCase ? HEX_PAIRS_LOWER : HEX_PAIRS_UPPER;
+        int nibbles = bytes.length * 2;
+        int i = 0;
+        int j = 0;
+        while (i < nibbles && j < chars.length) {
             if (chars[j] != 0) {
                 j++;
+                continue;
+            }
+            int end = j + 1;
+            while (end < chars.length && chars[end] == 0) {
+                end++;
+            }
+            int segmentEnd = j + Math.min(end - j, nibbles - i);
+            if ((i & 1) != 0) {
+                chars[j++] = charTable[bytes[i >>> 1] & 0xF];
+                i++;
+            }
+            for (; j + 1 < segmentEnd; j += 2, i += 2) {
+                SHORT_ARRAY_VIEW.set(chars, j, pairs[bytes[i >>> 1] & 0xFF]);
+            }
+            if (j < segmentEnd) {
+                chars[j++] = charTable[(bytes[i >>> 1] >>> 4) & 0xF];
+                i++;
             }
-            if (j >= chars.length)
-                break;
-            chars[j++] = charTable[(bytes[i] >>> 4) & 0xF];
-            if (j >= chars.length)
-                break;
-            chars[j++] = charTable[bytes[i] & 0xF];
         }
         return new String(chars, StandardCharsets.US_ASCII);
     }
 
     public static String bytesToHex(byte[] bytes, boolean lowerCase) {
-        byte[] charTable = lowerCase ? CHAR_TABLE_LOWER : CHAR_TABLE_UPPER;
         byte[] chars = new byte[bytes.length * 2];
-        for (int i = 0; i < bytes.length; i++) {
-            chars[i * 2] = charTable[(bytes[i] >>> 4) & 0xF];
-            chars[i * 2 + 1] = charTable[bytes[i] & 0xF];
-        }
+        bytesToHex(bytes, 0, bytes.length, chars, 0, lowerCase);
         return new String(chars, StandardCharsets.US_ASCII);
     }
+
+    /**
+     * 将 src[srcOffset, srcOffset + length) 编码为 2 * length 个字符, 写入调用方提供的 dst[dstOffset] 起始处
+     */
+    public static void bytesToHex(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, boolean lowerCase) {
+        Objects.checkFromIndexSize(srcOffset, length, src.length);
+        Objects.checkFromIndexSize(dstOffset, length * 2, dst.length);
+        short[] pairs = lowerCase ? HEX_PAIRS_LOWER : HEX_PAIRS_UPPER;
+        for (int i = 0; i < length; i++) {
+            SHORT_ARRAY_VIEW.set(dst, dstOffset + 2 * i, pairs[src[srcOffset + i] & 0xFF]);
+        }
+    }
 }
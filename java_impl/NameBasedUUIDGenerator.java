@@ -0,0 +1,194 @@
+package com.nyaa.common.util.random;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 基于名字的 UUID (v3 / v5) 生成器, 绑定一个命名空间, RFC 9562 5.3 / 5.5 节
+ * - 命名空间只编码一次, 按 RFC 取其 16 字节 (而非文本)
+ * - 摘要对象与缓冲区按线程缓存, 生成时不调用 MessageDigest.getInstance
+ * - 名字按 UTF-8 直接编码进线程缓冲区, 不创建中间 byte[]
+ * 命名空间不足一个分组 (64 字节), 克隆预先输入命名空间的摘要并不能省下压缩计算, 反而每次分配对象,
+ * 因此每次直接重新输入缓存的 16 字节
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9562#section-6.5">RFC 9562 Name-Based UUID Generation</a>
+ */
+public class NameBasedUUIDGenerator {
+    public static final UUID NAMESPACE_DNS = new UUID(0x6ba7b8109dad11d1L, 0x80b400c04fd430c8L);
+    public static final UUID NAMESPACE_URL = new UUID(0x6ba7b8119dad11d1L, 0x80b400c04fd430c8L);
+    public static final UUID NAMESPACE_OID = new UUID(0x6ba7b8129dad11d1L, 0x80b400c04fd430c8L);
+    public static final UUID NAMESPACE_X500 = new UUID(0x6ba7b8149dad11d1L, 0x80b400c04fd430c8L);
+
+    private static final String BAD_VERSION = "version must be 3 (MD5) or 5 (SHA-1)";
+    private static final ThreadLocal<Workspace> MD5 = ThreadLocal.withInitial(() -> new Workspace("MD5"));
+    private static final ThreadLocal<Workspace> SHA1 = ThreadLocal.withInitial(() -> new Workspace("SHA-1"));
+
+    private final byte[] namespace;
+    private final int version;
+    private final ThreadLocal<Workspace> workspace;
+
+    /**
+     * @param version 3 (MD5) 或 5 (SHA-1)
+     */
+    public NameBasedUUIDGenerator(UUID namespace, int version) {
+        if (version != 3 && version != 5) {
+            throw new IllegalArgumentException(BAD_VERSION);
+        }
+        this.namespace = namespace.toBytes();
+        this.version = version;
+        this.workspace = version == 3 ? MD5 : SHA1;
+    }
+
+    public UUID getNamespace() {
+        return new UUID(this.namespace);
+    }
+
+    public int getVersion() {
+        return this.version;
+    }
+
+    public UUID generate(CharSequence name) {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(this.version, 1);
+        }
+        Workspace workspace = this.workspace.get();
+        workspace.hash(this.namespace, name);
+        return workspace.toUUID(this.version);
+    }
+
+    /**
+     * 名字为原始字节
+     */
+    public UUID generate(byte[] name) {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(this.version, 1);
+        }
+        Workspace workspace = this.workspace.get();
+        workspace.hash(this.namespace, name, 0, name.length);
+        return workspace.toUUID(this.version);
+    }
+
+    public List<UUID> generate(List<? extends CharSequence> names) {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(this.version, names.size());
+        }
+        Workspace workspace = this.workspace.get();
+        List<UUID> result = new ArrayList<>(names.size());
+        for (CharSequence name : names) {
+            workspace.hash(this.namespace, name);
+            result.add(workspace.toUUID(this.version));
+        }
+        return result;
+    }
+
+    /**
+     * 批量生成, 结果按 out[2i] = msb, out[2i + 1] = lsb 依次写入, out 的长度至少为 2 * names.size()
+     */
+    public void generate(List<? extends CharSequence> names, long[] out) {
+        Objects.checkFromIndexSize(0, 2 * names.size(), out.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(this.version, names.size());
+        }
+        Workspace workspace = this.workspace.get();
+        int i = 0;
+        for (CharSequence name : names) {
+            workspace.hash(this.namespace, name);
+            out[i++] = workspace.msb(this.version);
+            out[i++] = workspace.lsb();
+        }
+    }
+
+    /**
+     * 线程独占的摘要对象与缓冲区
+     */
+    private static class Workspace {
+        private final MessageDigest digest;
+        /**
+         * SHA-1 摘要为 20 字节, 只取前 16 字节
+         */
+        private final byte[] result;
+        private byte[] buffer = new byte[256];
+
+        Workspace(String algorithm) {
+            try {
+                this.digest = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                // Java SE 规范要求所有实现都提供 MD5 与 SHA-1
+                throw new IllegalStateException(e);
+            }
+            this.result = new byte[this.digest.getDigestLength()];
+        }
+
+        void hash(byte[] namespace, CharSequence name) {
+            int length = this.encode(name);
+            this.hash(namespace, this.buffer, 0, length);
+        }
+
+        void hash(byte[] namespace, byte[] name, int offset, int length) {
+            this.digest.update(namespace);
+            this.digest.update(name, offset, length);
+            try {
+                this.digest.digest(this.result, 0, this.result.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        long msb(int version) {
+            long msb = (long) UUID.BYTE_ARRAY_VIEW.get(this.result, 0);
+            return (msb & ~0xF000L) | ((long) version << 12);
+        }
+
+        long lsb() {
+            long lsb = (long) UUID.BYTE_ARRAY_VIEW.get(this.result, 8);
+            return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        }
+
+        UUID toUUID(int version) {
+            return new UUID(this.msb(version), this.lsb());
+        }
+
+        /**
+         * 按 UTF-8 编码进 buffer, 返回字节数; 孤立的代理项编码为 '?', 与 String.getBytes(UTF_8) 一致
+         */
+        private int encode(CharSequence name) {
+            int length = name.length();
+            if (this.buffer.length < 3 * length) {
+                this.buffer = new byte[Math.max(3 * length, 2 * this.buffer.length)];
+            }
+            byte[] buffer = this.buffer;
+            int position = 0;
+            for (int i = 0; i < length; i++) {
+                char c = name.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    char low;
+                    if (Character.isHighSurrogate(c) && i + 1 < length
+                            && Character.isLowSurrogate(low = name.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, low);
+                        i++;
+                        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    } else {
+                        buffer[position++] = '?';
+                    }
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return position;
+        }
+    }
+}
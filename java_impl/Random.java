@@ -1,9 +1,27 @@
 package com.nyaa.common.util.random;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * V8 引擎随机数生成器实现
@@ -15,10 +33,39 @@ import java.util.random.RandomGenerator;
  * @see <a href="https://chromium.googlesource.com/v8/v8/+/refs/heads/master/src/base/utils/random-number-generator.cc">random-number-generator.cc</a>
  */
 // java 17 之前使用 extends java.util.Random
-public class Random implements RandomGenerator, java.io.Serializable {
+public class Random implements RandomGenerator.LeapableGenerator, java.io.Serializable {
     private static final ByteOrder BYTE_ORDER = ByteOrder.BIG_ENDIAN;
-    private long state0;
-    private long state1;
+    private static final VarHandle BYTE_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, BYTE_ORDER);
+    private static final VarHandle BYTE_BUFFER_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
+    /**
+     * 跳跃多项式: x^(2^64) mod P(x), P(x) 为 xorshift128+ (23, 17, 26) 状态转移矩阵的特征多项式
+     * 低位在前, 第 k 位对应转移 k 次后的状态
+     */
+    private static final long[] JUMP = {0x8C405782BCA686ADL, 0xC44F35946FEF49C6L};
+    /**
+     * 跳跃多项式: x^(2^96) mod P(x)
+     */
+    private static final long[] LEAP = {0xEEC5431970B882BCL, 0x397ADBE826B37B9EL};
+    /**
+     * 特征多项式 P(x) 的低 128 位, x^128 项隐含
+     */
+    private static final long[] CHARACTERISTIC = {0xBD82FD40E01730F9L, 0x01F9F801F6FD0098L};
+    /**
+     * 流按块划分, 第 k 块使用起点 jump k 次后的子序列, 拆分只发生在块边界, 因此输出与拆分方式无关
+     */
+    private static final long STREAM_BLOCK_SIZE = 1L << 14;
+    /**
+     * 状态的二进制形式: state0, state1, 大端序
+     */
+    public static final int STATE_SIZE = 16;
+    private static final String BAD_STATE_SIZE = "state must be 16 bytes";
+    private static final String ZERO_STATE = "State cannot be zero.";
+    private static final long serialVersionUID = 1L;
+    /**
+     * 由 writeObject / readObject 读写
+     */
+    private transient long state0;
+    private transient long state1;
 
     public Random() {
         this.setSeed(getDefaultSeed());
@@ -28,7 +75,12 @@ public class Random implements RandomGenerator, java.io.Serializable {
         this.setSeed(seed);
     }
 
-    private long getDefaultSeed() {
+    private Random(Random source) {
+        this.state0 = source.state0;
+        this.state1 = source.state1;
+    }
+
+    static long getDefaultSeed() {
         long seed = ThreadLocalRandom.current().nextLong();
         if (seed < 0) {
             seed = -seed;
@@ -41,10 +93,10 @@ public class Random implements RandomGenerator, java.io.Serializable {
      * * 使用 extends java.util.Random 时, 需要修改方法名字, 否则会传入由 java.util.Random 生成的 seed *
      */
     public void setSeed(long seed) {
-        this.state0 = this.murmurHash3(seed);
-        this.state1 = this.murmurHash3(~this.state0);
+        this.state0 = murmurHash3(seed);
+        this.state1 = murmurHash3(~this.state0);
         if (this.state0 == 0L && this.state1 == 0L) {
-            throw new IllegalStateException("State cannot be zero.");
+            throw new IllegalStateException(ZERO_STATE);
         }
     }
 
@@ -53,10 +105,215 @@ public class Random implements RandomGenerator, java.io.Serializable {
         return false;
     }
 
+    /**
+     * 复制当前状态, 副本与原对象此后产生相同的序列
+     */
+    @Override
+    public Random copy() {
+        return new Random(this);
+    }
+
+    /**
+     * 当前状态 {state0, state1}, 用于保存检查点, 恢复后无需从种子重放
+     */
+    public long[] getState() {
+        return new long[]{this.state0, this.state1};
+    }
+
+    /**
+     * @throws IllegalArgumentException 长度不为 2 或全为 0 (xorshift 的不动点)
+     */
+    public void setState(long[] state) {
+        if (state.length != 2) {
+            throw new IllegalArgumentException(BAD_STATE_SIZE);
+        }
+        this.setState(state[0], state[1]);
+    }
+
+    public void setState(long state0, long state1) {
+        if (state0 == 0L && state1 == 0L) {
+            throw new IllegalArgumentException(ZERO_STATE);
+        }
+        this.state0 = state0;
+        this.state1 = state1;
+    }
+
+    /**
+     * 16 字节的状态, 见 {@link #STATE_SIZE}
+     */
+    public byte[] saveState() {
+        byte[] state = new byte[STATE_SIZE];
+        BYTE_ARRAY_VIEW.set(state, 0, this.state0);
+        BYTE_ARRAY_VIEW.set(state, 8, this.state1);
+        return state;
+    }
+
+    public void restoreState(byte[] state) {
+        if (state.length != STATE_SIZE) {
+            throw new IllegalArgumentException(BAD_STATE_SIZE);
+        }
+        this.setState((long) BYTE_ARRAY_VIEW.get(state, 0), (long) BYTE_ARRAY_VIEW.get(state, 8));
+    }
+
+    /**
+     * 从 position 写入 16 字节并前移 position
+     */
+    public void saveState(ByteBuffer dst) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int position = dst.position();
+        if (dst.remaining() < STATE_SIZE) {
+            throw new BufferOverflowException();
+        }
+        BYTE_BUFFER_VIEW.set(dst, position, this.state0);
+        BYTE_BUFFER_VIEW.set(dst, position + 8, this.state1);
+        dst.position(position + STATE_SIZE);
+    }
+
+    /**
+     * 从 position 读取 16 字节并前移 position
+     */
+    public void restoreState(ByteBuffer src) {
+        int position = src.position();
+        if (src.remaining() < STATE_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        this.setState((long) BYTE_BUFFER_VIEW.get(src, position), (long) BYTE_BUFFER_VIEW.get(src, position + 8));
+        src.position(position + STATE_SIZE);
+    }
+
+    /**
+     * 依次写入各生成器的状态, 共 16 * generators.length 字节
+     */
+    public static void saveStates(Random[] generators, ByteBuffer dst) {
+        if (dst.remaining() / STATE_SIZE < generators.length) {
+            throw new BufferOverflowException();
+        }
+        for (Random generator : generators) {
+            generator.saveState(dst);
+        }
+    }
+
+    /**
+     * 依次恢复各生成器的状态, 为 null 的元素以新实例填充
+     */
+    public static void restoreStates(ByteBuffer src, Random[] generators) {
+        if (src.remaining() / STATE_SIZE < generators.length) {
+            throw new BufferUnderflowException();
+        }
+        for (int i = 0; i < generators.length; i++) {
+            if (generators[i] == null) {
+                generators[i] = new Random(0L);
+            }
+            generators[i].restoreState(src);
+        }
+    }
+
+    /**
+     * @serialData state0, state1 两个 long
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeLong(this.state0);
+        out.writeLong(this.state1);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        long state0 = in.readLong();
+        long state1 = in.readLong();
+        if (state0 == 0L && state1 == 0L) {
+            throw new InvalidObjectException(ZERO_STATE);
+        }
+        this.state0 = state0;
+        this.state1 = state1;
+    }
+
+    /**
+     * 前进 2^64 步, 用于为各线程/分片划分互不重叠的子序列
+     */
+    @Override
+    public void jump() {
+        this.jump(JUMP);
+    }
+
+    @Override
+    public double jumpDistance() {
+        return 0x1.0p64;
+    }
+
+    /**
+     * 前进 2^96 步, 每次 leap 之间可再划分 2^32 个 jump 子序列
+     */
+    @Override
+    public void leap() {
+        this.jump(LEAP);
+    }
+
+    @Override
+    public double leapDistance() {
+        return 0x1.0p96;
+    }
+
+    /**
+     * 以跳跃多项式 J(x) 计算 J(T)·s, 即对 J 中每个为 1 的系数累加对应步数的状态
+     */
+    private void jump(long[] polynomial) {
+        long s0 = 0L;
+        long s1 = 0L;
+        for (long word : polynomial) {
+            for (int b = 0; b < 64; b++) {
+                if ((word & (1L << b)) != 0) {
+                    s0 ^= this.state0;
+                    s1 ^= this.state1;
+                }
+                this.xorShift128();
+            }
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+
+    /**
+     * 计算 a(x)·b(x) mod P(x)
+     */
+    private static long[] multiply(long[] a, long[] b) {
+        long r0 = 0L;
+        long r1 = 0L;
+        for (int i = 127; i >= 0; i--) {
+            // r = r·x mod P
+            long carry = r1 >> 63;
+            r1 = (r1 << 1) | (r0 >>> 63);
+            r0 <<= 1;
+            r0 ^= carry & CHARACTERISTIC[0];
+            r1 ^= carry & CHARACTERISTIC[1];
+            // r += a·b[i]
+            long mask = -((b[i >>> 6] >>> (i & 63)) & 1L);
+            r0 ^= a[0] & mask;
+            r1 ^= a[1] & mask;
+        }
+        return new long[]{r0, r1};
+    }
+
+    /**
+     * 计算 polynomial(x)^exponent mod P(x)
+     */
+    private static long[] power(long[] polynomial, long exponent) {
+        long[] result = {1L, 0L};
+        for (int i = 63 - Long.numberOfLeadingZeros(exponent); i >= 0; i--) {
+            result = multiply(result, result);
+            if (((exponent >>> i) & 1L) != 0) {
+                result = multiply(result, polynomial);
+            }
+        }
+        return result;
+    }
+
     /**
      * MurmurHash3 算法
      */
-    private long murmurHash3(long h) {
+    static long murmurHash3(long h) {
         h ^= h >>> 33;
         h *= 0xFF51AFD7ED558CCDL;
         h ^= h >>> 33;
@@ -93,55 +350,34 @@ public class Random implements RandomGenerator, java.io.Serializable {
     @Override
     public int nextInt(int bound) {
         RandomSupport.checkBound(bound);
-        if ((bound & (bound - 1)) == 0) {
-            int r = (int) (this.nextLong() & Integer.MAX_VALUE);
-            return r & (bound - 1);
-        }
-        final int limit = Integer.MAX_VALUE - (Integer.MAX_VALUE % bound);
-        while (true) {
-            final long r64 = this.nextLong();
-            int r32 = (int) (r64 & Integer.MAX_VALUE);
-            if (r32 < limit) {
-                return r32 % bound;
-            }
-            r32 = (int) ((r64 >>> 32) & Integer.MAX_VALUE);
-            if (r32 < limit) {
-                return r32 % bound;
-            }
-        }
+        return RandomSupport.boundedNextInt(this, bound);
     }
 
     @Override
     public int nextInt(int origin, int bound) {
         RandomSupport.checkRange(origin, bound);
-        return origin + (int) this.nextLong(origin + bound);
+        return RandomSupport.boundedNextInt(this, origin, bound);
     }
 
     @Override
     public long nextLong() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(1);
+        }
         this.xorShift128();
-        return this.murmurHash3(this.state0 ^ this.state1);
+        return murmurHash3(this.state0 ^ this.state1);
     }
 
     @Override
     public long nextLong(long bound) {
         RandomSupport.checkBound(bound);
-        if ((bound & (bound - 1)) == 0) {
-            return (this.nextLong() >>> 1) & (bound - 1);
-        }
-        final long limit = Long.MAX_VALUE - (Long.MAX_VALUE % bound);
-        while (true) {
-            final long r = (this.nextLong() >>> 1);
-            if (r < limit) {
-                return r % bound;
-            }
-        }
+        return RandomSupport.boundedNextLong(this, bound);
     }
 
     @Override
     public long nextLong(long origin, long bound) {
         RandomSupport.checkRange(origin, bound);
-        return origin + Math.floorMod(this.nextLong(), bound - origin);
+        return RandomSupport.boundedNextLong(this, origin, bound);
     }
 
     @Override
@@ -178,29 +414,160 @@ public class Random implements RandomGenerator, java.io.Serializable {
         return origin + (this.nextDouble() * (bound - origin));
     }
 
-    @Override
-    public void nextBytes(byte[] bytes) {
-        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(Random.BYTE_ORDER);
+    /**
+     * 批量填充, 与逐个调用 {@link #nextLong()} 的序列一致
+     * 循环内状态保存在局部变量中, 结束时写回一次
+     */
+    public void nextLongs(long[] values) {
+        this.nextLongs(values, 0, values.length);
+    }
 
-        int i = 0;
-        for (; i < bytes.length / 8; i++) {
-            buffer.putLong(i * 8, this.nextLong());
+    public void nextLongs(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(length);
         }
-        i *= 8;
-        if (i == bytes.length) {
-            return;
+        long s0 = this.state0;
+        long s1 = this.state1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            long t = s0;
+            s0 = s1;
+            t ^= t << 23;
+            t ^= t >>> 17;
+            t ^= s1;
+            t ^= s1 >>> 26;
+            s1 = t;
+            values[i] = murmurHash3(s0 ^ s1);
         }
-        long r = this.nextLong();
-        for (int j = 7; j >= 0; j--) {
-            if (i + j < bytes.length) { // 最后 chunk 不满 8byte 时, 会下标溢出
-                buffer.put(i + j, (byte) (r & 0xFF));
-            }
-            r >>>= 8;
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+
+    /**
+     * 批量填充, 与逐个调用 {@link #nextInt()} 的序列一致
+     */
+    public void nextInts(int[] values) {
+        this.nextInts(values, 0, values.length);
+    }
+
+    public void nextInts(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(length);
+        }
+        long s0 = this.state0;
+        long s1 = this.state1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            long t = s0;
+            s0 = s1;
+            t ^= t << 23;
+            t ^= t >>> 17;
+            t ^= s1;
+            t ^= s1 >>> 26;
+            s1 = t;
+            values[i] = (int) murmurHash3(s0 ^ s1);
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+
+    /**
+     * 批量填充, 与逐个调用 {@link #nextDouble()} 的序列一致
+     */
+    public void nextDoubles(double[] values) {
+        this.nextDoubles(values, 0, values.length);
+    }
+
+    public void nextDoubles(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(length);
+        }
+        long s0 = this.state0;
+        long s1 = this.state1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            long t = s0;
+            s0 = s1;
+            t ^= t << 23;
+            t ^= t >>> 17;
+            t ^= s1;
+            t ^= s1 >>> 26;
+            s1 = t;
+            values[i] = DataCast.toLimitedDouble(murmurHash3(s0 ^ s1));
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+
+    /**
+     * 批量填充, 与逐个调用 {@link #nextFloat()} 的序列一致
+     */
+    public void nextFloats(float[] values) {
+        this.nextFloats(values, 0, values.length);
+    }
+
+    public void nextFloats(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(length);
         }
+        long s0 = this.state0;
+        long s1 = this.state1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            long t = s0;
+            s0 = s1;
+            t ^= t << 23;
+            t ^= t >>> 17;
+            t ^= s1;
+            t ^= s1 >>> 26;
+            s1 = t;
+            values[i] = DataCast.toLimitedFloat(murmurHash3(s0 ^ s1));
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        this.nextBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 以大端序每 8 字节写入一个 nextLong(), 末尾不足 8 字节时取该 long 的高位字节
+     */
+    public void nextBytes(byte[] bytes, int offset, int length) {
+        RandomSupport.nextBytes(this, bytes, offset, length);
     }
 
+    /**
+     * 填充 position 到 limit 之间的字节, 完成后 position 移动到 limit
+     * 字节布局与 {@link #nextBytes(byte[])} 相同, 堆外 (direct) 缓冲区直接写入, 不经过临时数组
+     * JDK 22+ 的 MemorySegment 可通过 {@code segment.asByteBuffer()} 零拷贝地使用此方法
+     */
+    public void nextBytes(ByteBuffer buffer) {
+        RandomSupport.nextBytes(this, buffer);
+    }
+
+    /**
+     * Ziggurat 算法, 每次通常只消耗一个 nextLong()
+     */
     @Override
     public double nextExponential() {
+        return Ziggurat.nextExponential(this);
+    }
+
+    /**
+     * Ziggurat 算法, 每次通常只消耗一个 nextLong()
+     */
+    @Override
+    public double nextGaussian() {
+        return Ziggurat.nextGaussian(this);
+    }
+
+    /**
+     * 旧版实现 (逆变换法), 保留用于复现此前版本的序列
+     */
+    public double nextExponentialLegacy() {
         // 生成一个均匀分布的随机数 U
         double U = this.nextDouble();
         // 避免 U 为 0，因为 ln(0) 是未定义的
@@ -211,8 +578,10 @@ public class Random implements RandomGenerator, java.io.Serializable {
         return -Math.log(1.0 - U);
     }
 
-    @Override
-    public double nextGaussian() {
+    /**
+     * 旧版实现 (Box-Muller 变换), 保留用于复现此前版本的序列
+     */
+    public double nextGaussianLegacy() {
         // Box-Muller 变换需要两个均匀分布的随机数
         double U1 = this.nextDouble();
         double U2 = this.nextDouble();
@@ -224,9 +593,327 @@ public class Random implements RandomGenerator, java.io.Serializable {
         return Math.sqrt(-2.0 * Math.log(U1)) * Math.cos(2.0 * Math.PI * U2);
     }
 
+    /**
+     * 以下流均可并行: 按 {@link #STREAM_BLOCK_SIZE} 分块, 块之间相距 2^64 步, 给定种子时输出与是否并行及拆分方式无关
+     * 流持有当前状态的副本, 本对象随后 leap 2^96 步, 单个流不超过 2^46 个元素时与之后的输出互不重叠
+     */
+    @Override
+    public IntStream ints() {
+        return this.ints(Long.MAX_VALUE);
+    }
+
+    @Override
+    public IntStream ints(long streamSize) {
+        RandomSupport.checkStreamSize(streamSize);
+        return StreamSupport.intStream(new RandomIntsSpliterator(this.split(), streamSize, 0, 0), false);
+    }
+
+    @Override
+    public IntStream ints(int randomNumberOrigin, int randomNumberBound) {
+        return this.ints(Long.MAX_VALUE, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public IntStream ints(long streamSize, int randomNumberOrigin, int randomNumberBound) {
+        RandomSupport.checkStreamSize(streamSize);
+        RandomSupport.checkRange(randomNumberOrigin, randomNumberBound);
+        return StreamSupport.intStream(
+                new RandomIntsSpliterator(this.split(), streamSize, randomNumberOrigin, randomNumberBound), false);
+    }
+
+    @Override
+    public LongStream longs() {
+        return this.longs(Long.MAX_VALUE);
+    }
+
+    @Override
+    public LongStream longs(long streamSize) {
+        RandomSupport.checkStreamSize(streamSize);
+        return StreamSupport.longStream(new RandomLongsSpliterator(this.split(), streamSize, 0L, 0L), false);
+    }
+
+    @Override
+    public LongStream longs(long randomNumberOrigin, long randomNumberBound) {
+        return this.longs(Long.MAX_VALUE, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public LongStream longs(long streamSize, long randomNumberOrigin, long randomNumberBound) {
+        RandomSupport.checkStreamSize(streamSize);
+        RandomSupport.checkRange(randomNumberOrigin, randomNumberBound);
+        return StreamSupport.longStream(
+                new RandomLongsSpliterator(this.split(), streamSize, randomNumberOrigin, randomNumberBound), false);
+    }
+
+    @Override
+    public DoubleStream doubles() {
+        return this.doubles(Long.MAX_VALUE);
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize) {
+        RandomSupport.checkStreamSize(streamSize);
+        return StreamSupport.doubleStream(new RandomDoublesSpliterator(this.split(), streamSize, 0.0, 0.0), false);
+    }
+
+    @Override
+    public DoubleStream doubles(double randomNumberOrigin, double randomNumberBound) {
+        return this.doubles(Long.MAX_VALUE, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize, double randomNumberOrigin, double randomNumberBound) {
+        RandomSupport.checkStreamSize(streamSize);
+        RandomSupport.checkRange(randomNumberOrigin, randomNumberBound);
+        return StreamSupport.doubleStream(
+                new RandomDoublesSpliterator(this.split(), streamSize, randomNumberOrigin, randomNumberBound), false);
+    }
+
+    /**
+     * 取出当前状态交给流使用, 自身前进 2^96 步
+     */
+    private Random split() {
+        Random copy = this.copy();
+        this.leap();
+        return copy;
+    }
+
     public UUID nextUUIDv4() {
-        byte[] bytes = new byte[16];
-        this.nextBytes(bytes);
-        return new UUID(bytes);
+        return UUID.ofV4(this.nextLong(), this.nextLong());
+    }
+
+    /**
+     * 分块随机数流的公共部分, 维护当前块的起点状态与当前位置状态
+     */
+    private abstract static class RandomSpliterator {
+        private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.NONNULL | Spliterator.IMMUTABLE | Spliterator.ORDERED;
+
+        protected final long fence;
+        protected long index;
+        /**
+         * 当前块的起点状态
+         */
+        private final Random block;
+        /**
+         * 当前位置的状态
+         */
+        protected final Random generator;
+        private long blockEnd;
+
+        RandomSpliterator(Random block, long index, long fence) {
+            this.block = block;
+            this.generator = block.copy();
+            this.index = index;
+            this.fence = fence;
+            this.blockEnd = index + STREAM_BLOCK_SIZE;
+        }
+
+        RandomSpliterator(RandomSpliterator source, long fence) {
+            this.block = source.block.copy();
+            this.generator = source.generator.copy();
+            this.index = source.index;
+            this.fence = fence;
+            this.blockEnd = source.blockEnd;
+        }
+
+        /**
+         * 返回块对齐的中点, 无法拆分时返回 -1
+         */
+        protected final long splitPoint() {
+            long mid = ((this.index + this.fence) >>> 1) & -STREAM_BLOCK_SIZE;
+            return mid > this.index ? mid : -1L;
+        }
+
+        /**
+         * 前缀已交给新对象, 自身移动到 mid 所在块的起点
+         */
+        protected final void moveTo(long mid) {
+            long blocks = (mid - (this.blockEnd - STREAM_BLOCK_SIZE)) / STREAM_BLOCK_SIZE;
+            this.block.jump(power(JUMP, blocks));
+            this.generator.state0 = this.block.state0;
+            this.generator.state1 = this.block.state1;
+            this.index = mid;
+            this.blockEnd = mid + STREAM_BLOCK_SIZE;
+        }
+
+        /**
+         * 生成第 index 个元素之前调用, 跨越块边界时切换到下一块
+         */
+        protected final void enterBlock() {
+            if (this.index == this.blockEnd) {
+                this.block.jump();
+                this.generator.state0 = this.block.state0;
+                this.generator.state1 = this.block.state1;
+                this.blockEnd += STREAM_BLOCK_SIZE;
+            }
+        }
+
+        public final long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        public final int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    private static final class RandomIntsSpliterator extends RandomSpliterator implements Spliterator.OfInt {
+        private final int origin;
+        private final int bound;
+
+        RandomIntsSpliterator(Random block, long fence, int origin, int bound) {
+            super(block, 0L, fence);
+            this.origin = origin;
+            this.bound = bound;
+        }
+
+        private RandomIntsSpliterator(RandomIntsSpliterator source, long fence) {
+            super(source, fence);
+            this.origin = source.origin;
+            this.bound = source.bound;
+        }
+
+        @Override
+        public RandomIntsSpliterator trySplit() {
+            long mid = this.splitPoint();
+            if (mid < 0) {
+                return null;
+            }
+            RandomIntsSpliterator prefix = new RandomIntsSpliterator(this, mid);
+            this.moveTo(mid);
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer consumer) {
+            if (this.index >= this.fence) {
+                return false;
+            }
+            this.enterBlock();
+            consumer.accept(this.next());
+            this.index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer consumer) {
+            for (; this.index < this.fence; this.index++) {
+                this.enterBlock();
+                consumer.accept(this.next());
+            }
+        }
+
+        private int next() {
+            return this.origin < this.bound
+                    ? this.generator.nextInt(this.origin, this.bound)
+                    : this.generator.nextInt();
+        }
+    }
+
+    private static final class RandomLongsSpliterator extends RandomSpliterator implements Spliterator.OfLong {
+        private final long origin;
+        private final long bound;
+
+        RandomLongsSpliterator(Random block, long fence, long origin, long bound) {
+            super(block, 0L, fence);
+            this.origin = origin;
+            this.bound = bound;
+        }
+
+        private RandomLongsSpliterator(RandomLongsSpliterator source, long fence) {
+            super(source, fence);
+            this.origin = source.origin;
+            this.bound = source.bound;
+        }
+
+        @Override
+        public RandomLongsSpliterator trySplit() {
+            long mid = this.splitPoint();
+            if (mid < 0) {
+                return null;
+            }
+            RandomLongsSpliterator prefix = new RandomLongsSpliterator(this, mid);
+            this.moveTo(mid);
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer consumer) {
+            if (this.index >= this.fence) {
+                return false;
+            }
+            this.enterBlock();
+            consumer.accept(this.next());
+            this.index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer consumer) {
+            for (; this.index < this.fence; this.index++) {
+                this.enterBlock();
+                consumer.accept(this.next());
+            }
+        }
+
+        private long next() {
+            return this.origin < this.bound
+                    ? this.generator.nextLong(this.origin, this.bound)
+                    : this.generator.nextLong();
+        }
+    }
+
+    private static final class RandomDoublesSpliterator extends RandomSpliterator implements Spliterator.OfDouble {
+        private final double origin;
+        private final double bound;
+
+        RandomDoublesSpliterator(Random block, long fence, double origin, double bound) {
+            super(block, 0L, fence);
+            this.origin = origin;
+            this.bound = bound;
+        }
+
+        private RandomDoublesSpliterator(RandomDoublesSpliterator source, long fence) {
+            super(source, fence);
+            this.origin = source.origin;
+            this.bound = source.bound;
+        }
+
+        @Override
+        public RandomDoublesSpliterator trySplit() {
+            long mid = this.splitPoint();
+            if (mid < 0) {
+                return null;
+            }
+            RandomDoublesSpliterator prefix = new RandomDoublesSpliterator(this, mid);
+            this.moveTo(mid);
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer consumer) {
+            if (this.index >= this.fence) {
+                return false;
+            }
+            this.enterBlock();
+            consumer.accept(this.next());
+            this.index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer consumer) {
+            for (; this.index < this.fence; this.index++) {
+                this.enterBlock();
+                consumer.accept(this.next());
+            }
+        }
+
+        private double next() {
+            return this.origin < this.bound
+                    ? this.generator.nextDouble(this.origin, this.bound)
+                    : this.generator.nextDouble();
+        }
     }
 }
@@ -0,0 +1,140 @@
+package com.nyaa.common.util.random;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 可替换的随机数引擎的公共基类, 子类只需实现 {@link #nextLong()}
+ * 其余方法与 {@link Random} 一致: 有界随机数见 {@link RandomSupport}, 浮点数见 {@link DataCast}, nextBytes 按大端序写入
+ * 引擎以 {@code java.util.random.RandomGenerator} 服务登记在 META-INF/services 中, 名字为类的简单名称,
+ * 可通过 {@code RandomGenerator.of("V8XorShift128Plus")} 或 {@code RandomGeneratorFactory.of(name).create(seed)} 创建 (JDK 17 / 21 已验证);
+ * 工厂的属性查询 (group, stateBits, isJumpable 等) 依赖 JDK 内部注解, 对这些引擎会抛出 NullPointerException, {@code RandomGeneratorFactory.all()} 也不会列出它们
+ * 注意: 非密码安全, 非线程安全
+ *
+ * @see SplitMix64
+ * @see Xoroshiro128PP
+ * @see V8XorShift128Plus
+ */
+public abstract class RandomEngine implements RandomGenerator {
+    private static final String UNKNOWN_ENGINE = "No random engine named ";
+
+    /**
+     * 以指定种子创建本包的引擎, 相同种子产生相同的序列, 与 {@code RandomGeneratorFactory.of(name).create(seed)} 相同
+     *
+     * @throws IllegalArgumentException 名字不是本包的引擎
+     */
+    public static RandomEngine of(String name, long seed) {
+        return switch (name) {
+            case "SplitMix64" -> new SplitMix64(seed);
+            case "Xoroshiro128PP" -> new Xoroshiro128PP(seed);
+            case "V8XorShift128Plus" -> new V8XorShift128Plus(seed);
+            default -> throw new IllegalArgumentException(UNKNOWN_ENGINE + name);
+        };
+    }
+
+    @Override
+    public abstract long nextLong();
+
+    @Override
+    public boolean isDeprecated() {
+        return false;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return this.nextLong() < 0;
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) this.nextLong();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        RandomSupport.checkBound(bound);
+        return RandomSupport.boundedNextInt(this, bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        RandomSupport.checkRange(origin, bound);
+        return RandomSupport.boundedNextInt(this, origin, bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        RandomSupport.checkBound(bound);
+        return RandomSupport.boundedNextLong(this, bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        RandomSupport.checkRange(origin, bound);
+        return RandomSupport.boundedNextLong(this, origin, bound);
+    }
+
+    @Override
+    public float nextFloat() {
+        return DataCast.toLimitedFloat(this.nextLong());
+    }
+
+    @Override
+    public double nextDouble() {
+        return DataCast.toLimitedDouble(this.nextLong());
+    }
+
+    /**
+     * 批量填充, 与逐个调用 {@link #nextLong()} 的序列一致; 子类可覆盖为状态保存在局部变量中的版本
+     */
+    public void nextLongs(long[] values) {
+        this.nextLongs(values, 0, values.length);
+    }
+
+    public void nextLongs(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            values[i] = this.nextLong();
+        }
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        this.nextBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 以大端序每 8 字节写入一个 nextLong(), 末尾不足 8 字节时取该 long 的高位字节
+     */
+    public void nextBytes(byte[] bytes, int offset, int length) {
+        RandomSupport.nextBytes(this, bytes, offset, length);
+    }
+
+    /**
+     * 填充 position 到 limit 之间的字节, 完成后 position 移动到 limit, 字节布局与 {@link #nextBytes(byte[])} 相同
+     */
+    public void nextBytes(ByteBuffer buffer) {
+        RandomSupport.nextBytes(this, buffer);
+    }
+
+    /**
+     * Ziggurat 算法, 每次通常只消耗一个 nextLong()
+     */
+    @Override
+    public double nextExponential() {
+        return Ziggurat.nextExponential(this);
+    }
+
+    /**
+     * Ziggurat 算法, 每次通常只消耗一个 nextLong()
+     */
+    @Override
+    public double nextGaussian() {
+        return Ziggurat.nextGaussian(this);
+    }
+
+    public UUID nextUUIDv4() {
+        return UUID.ofV4(this.nextLong(), this.nextLong());
+    }
+}
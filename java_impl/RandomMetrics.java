@@ -0,0 +1,315 @@
+package com.nyaa.common.util.random;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 可选的运行时统计, 以 -Dcom.nyaa.common.util.random.RandomMetrics.enabled=true 开启
+ * - 计数器使用 {@link LongAdder}, 多线程写入时分散到不同的槽位
+ * - 慢路径 (网卡查询, 有界随机数的拒绝重试, 时钟回拨) 另外发出 JFR 事件, 开启录制后可在 JMC 中查看
+ * - 录制期间每秒发出一次 {@link SnapshotEvent}, 内容与 {@link #snapshot()} 相同
+ * 调用方均以 {@code if (RandomMetrics.ENABLED)} 包裹, ENABLED 为 static final, 关闭时整段代码由 JIT 消除
+ */
+public class RandomMetrics {
+    public static final String ENABLED_PROPERTY = RandomMetrics.class.getName() + ".enabled";
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final String CATEGORY = "V8 Random";
+
+    private static final LongAdder LONGS = new LongAdder();
+    private static final LongAdder BOUNDED_RETRIES = new LongAdder();
+    private static final LongAdder NIC_LOOKUPS = new LongAdder();
+    private static final LongAdder NIC_LOOKUP_FAILURES = new LongAdder();
+    private static final LongAdder NIC_LOOKUP_NANOS = new LongAdder();
+    private static final LongAdder CLOCK_REGRESSIONS = new LongAdder();
+    /**
+     * 按版本号 (0 ~ 15) 计数
+     */
+    private static final LongAdder[] UUIDS = new LongAdder[16];
+
+    static {
+        for (int i = 0; i < UUIDS.length; i++) {
+            UUIDS[i] = new LongAdder();
+        }
+        if (ENABLED) {
+            FlightRecorder.addPeriodicEvent(SnapshotEvent.class, RandomMetrics::emitSnapshot);
+        }
+    }
+
+    private RandomMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 当前各计数器的值; 各计数器分别读取, 并发写入时彼此之间不保证一致
+     */
+    public static Snapshot snapshot() {
+        long[] uuids = new long[UUIDS.length];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = UUIDS[i].sum();
+        }
+        return new Snapshot(LONGS.sum(), BOUNDED_RETRIES.sum(), NIC_LOOKUPS.sum(), NIC_LOOKUP_FAILURES.sum(),
+                NIC_LOOKUP_NANOS.sum(), CLOCK_REGRESSIONS.sum(), uuids);
+    }
+
+    /**
+     * 清零全部计数器, 与并发写入同时进行时可能丢失部分计数
+     */
+    public static void reset() {
+        LONGS.reset();
+        BOUNDED_RETRIES.reset();
+        NIC_LOOKUPS.reset();
+        NIC_LOOKUP_FAILURES.reset();
+        NIC_LOOKUP_NANOS.reset();
+        CLOCK_REGRESSIONS.reset();
+        for (LongAdder counter : UUIDS) {
+            counter.reset();
+        }
+    }
+
+    static void recordLongs(long count) {
+        LONGS.add(count);
+    }
+
+    static void recordUUIDs(int version, long count) {
+        UUIDS[version & 0x0F].add(count);
+    }
+
+    /**
+     * 有界随机数的一次拒绝重试, 概率低于 bound / 2^64, 逐次发出事件
+     */
+    static void recordBoundedRetry(long bound) {
+        BOUNDED_RETRIES.increment();
+        BoundedRetryEvent event = new BoundedRetryEvent();
+        if (event.shouldCommit()) {
+            event.bound = bound;
+            event.commit();
+        }
+    }
+
+    /**
+     * @param startNanos 查询开始时的 {@link System#nanoTime()}
+     * @param found      是否取到了有效的 MAC 地址
+     */
+    static void recordNicLookup(long startNanos, boolean found) {
+        long elapsed = System.nanoTime() - startNanos;
+        NIC_LOOKUPS.increment();
+        NIC_LOOKUP_NANOS.add(elapsed);
+        if (!found) {
+            NIC_LOOKUP_FAILURES.increment();
+        }
+        NicLookupEvent event = new NicLookupEvent();
+        if (event.shouldCommit()) {
+            event.elapsed = elapsed;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    /**
+     * @param previous 回拨前已分配的时间戳 (100 纳秒)
+     * @param now      当前时钟 (100 纳秒)
+     */
+    static void recordClockRegression(long previous, long now, int clockSequence) {
+        recordClockRegressionNanos((previous - now) * 100, clockSequence);
+    }
+
+    /**
+     * UUIDv7 没有时钟序列, 事件中记为 -1
+     *
+     * @param previous 回拨前观察到的时钟 (毫秒)
+     * @param now      当前时钟 (毫秒)
+     */
+    static void recordV7ClockRegression(long previous, long now) {
+        recordClockRegressionNanos(TimeUnit.MILLISECONDS.toNanos(previous - now), -1);
+    }
+
+    private static void recordClockRegressionNanos(long regression, int clockSequence) {
+        CLOCK_REGRESSIONS.increment();
+        ClockRegressionEvent event = new ClockRegressionEvent();
+        if (event.shouldCommit()) {
+            event.regression = regression;
+            event.clockSequence = clockSequence;
+            event.commit();
+        }
+    }
+
+    private static void emitSnapshot() {
+        Snapshot snapshot = snapshot();
+        SnapshotEvent event = new SnapshotEvent();
+        event.longs = snapshot.getLongs();
+        event.boundedRetries = snapshot.getBoundedRetries();
+        event.nicLookups = snapshot.getNicLookups();
+        event.nicLookupTime = snapshot.getNicLookupNanos();
+        event.clockRegressions = snapshot.getClockRegressions();
+        event.uuids = snapshot.getUUIDs();
+        event.commit();
+    }
+
+    /**
+     * 不可变的计数快照
+     */
+    public static final class Snapshot {
+        private final long longs;
+        private final long boundedRetries;
+        private final long nicLookups;
+        private final long nicLookupFailures;
+        private final long nicLookupNanos;
+        private final long clockRegressions;
+        private final long[] uuids;
+
+        private Snapshot(long longs, long boundedRetries, long nicLookups, long nicLookupFailures,
+                         long nicLookupNanos, long clockRegressions, long[] uuids) {
+            this.longs = longs;
+            this.boundedRetries = boundedRetries;
+            this.nicLookups = nicLookups;
+            this.nicLookupFailures = nicLookupFailures;
+            this.nicLookupNanos = nicLookupNanos;
+            this.clockRegressions = clockRegressions;
+            this.uuids = uuids;
+        }
+
+        /**
+         * 各生成器产生的 64 位随机数个数, 包括转换为 int / double / byte 的部分
+         */
+        public long getLongs() {
+            return this.longs;
+        }
+
+        /**
+         * nextInt(bound) / nextLong(bound) 等因拒绝采样而重新取数的次数
+         */
+        public long getBoundedRetries() {
+            return this.boundedRetries;
+        }
+
+        public long getNicLookups() {
+            return this.nicLookups;
+        }
+
+        /**
+         * 未取到有效 MAC 地址, 改用随机节点的次数
+         */
+        public long getNicLookupFailures() {
+            return this.nicLookupFailures;
+        }
+
+        /**
+         * 网卡查询累计阻塞的时间
+         */
+        public long getNicLookupNanos() {
+            return this.nicLookupNanos;
+        }
+
+        public long getClockRegressions() {
+            return this.clockRegressions;
+        }
+
+        public long getUUIDs(int version) {
+            return this.uuids[version & 0x0F];
+        }
+
+        public long getUUIDs() {
+            long total = 0;
+            for (long count : this.uuids) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * 以扁平的键值导出, 便于接入其他监控系统; 只包含出现过的 UUID 版本
+         */
+        public Map<String, Long> toMap() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            map.put("random.longs", this.longs);
+            map.put("random.bounded.retries", this.boundedRetries);
+            map.put("uuid.nic.lookups", this.nicLookups);
+            map.put("uuid.nic.lookup.failures", this.nicLookupFailures);
+            map.put("uuid.nic.lookup.nanos", this.nicLookupNanos);
+            map.put("uuid.clock.regressions", this.clockRegressions);
+            for (int version = 0; version < this.uuids.length; version++) {
+                if (this.uuids[version] != 0) {
+                    map.put("uuid.v" + version, this.uuids[version]);
+                }
+            }
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return this.toMap().toString();
+        }
+    }
+
+    @Name("com.nyaa.random.BoundedRetry")
+    @Label("Bounded Random Retry")
+    @Description("A rejection-sampling retry in nextInt(bound) / nextLong(bound)")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class BoundedRetryEvent extends Event {
+        @Label("Bound")
+        long bound;
+    }
+
+    @Name("com.nyaa.random.NicLookup")
+    @Label("NIC Lookup")
+    @Description("Resolving the MAC address used as the node of v1 / v6 UUIDs")
+    @Category(CATEGORY)
+    static class NicLookupEvent extends Event {
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+        @Label("Found")
+        boolean found;
+    }
+
+    @Name("com.nyaa.random.ClockRegression")
+    @Label("Clock Regression")
+    @Description("The wall clock moved back: v1/v6 beyond tolerance with a new clock sequence, v7 kept counting from the last timestamp")
+    @Category(CATEGORY)
+    static class ClockRegressionEvent extends Event {
+        @Label("Regression")
+        @Timespan(Timespan.NANOSECONDS)
+        long regression;
+        @Label("New Clock Sequence")
+        @Description("-1 for UUIDv7, which has no clock sequence")
+        int clockSequence;
+    }
+
+    @Name("com.nyaa.random.Snapshot")
+    @Label("Random Metrics")
+    @Category(CATEGORY)
+    @Period("1 s")
+    @StackTrace(false)
+    static class SnapshotEvent extends Event {
+        @Label("Longs Generated")
+        long longs;
+        @Label("Bounded Retries")
+        long boundedRetries;
+        @Label("NIC Lookups")
+        long nicLookups;
+        @Label("NIC Lookup Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long nicLookupTime;
+        @Label("Clock Regressions")
+        long clockRegressions;
+        @Label("UUIDs Generated")
+        long uuids;
+    }
+}
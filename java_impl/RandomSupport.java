@@ -1,6 +1,17 @@
 package com.nyaa.common.util.random;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
 public class RandomSupport {
+    private static final ByteOrder BYTE_ORDER = ByteOrder.BIG_ENDIAN;
+    private static final VarHandle BYTE_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, BYTE_ORDER);
+    private static final VarHandle BYTE_BUFFER_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
     public static final String BAD_SIZE = "size must be non-negative";
     public static final String BAD_DISTANCE = "jump distance must be finite, positive, and an exact integer";
     public static final String BAD_BOUND = "bound must be positive";
@@ -62,4 +73,131 @@ public class RandomSupport {
             throw new IllegalArgumentException(BAD_RANGE);
         }
     }
+
+    /**
+     * 无偏的 [0, bound) 整数, Lemire 乘法移位法, 仅在极少数需要拒绝时才做一次取模
+     * 使用 nextLong() 的高 32 位
+     *
+     * @see <a href="https://arxiv.org/abs/1805.10941">Fast Random Integer Generation in an Interval</a>
+     */
+    public static int boundedNextInt(RandomGenerator rng, int bound) {
+        return (int) nextUnsignedInt(rng, bound);
+    }
+
+    /**
+     * 无偏的 [origin, bound) 整数, 区间宽度超过 Integer.MAX_VALUE 时按无符号处理
+     */
+    public static int boundedNextInt(RandomGenerator rng, int origin, int bound) {
+        return origin + (int) nextUnsignedInt(rng, Integer.toUnsignedLong(bound - origin));
+    }
+
+    /**
+     * 无偏的 [0, bound) 长整数, 128 位乘积的高 64 位即为结果
+     */
+    public static long boundedNextLong(RandomGenerator rng, long bound) {
+        return nextUnsignedLong(rng, bound);
+    }
+
+    /**
+     * 无偏的 [origin, bound) 长整数, 区间宽度超过 Long.MAX_VALUE 时按无符号处理
+     */
+    public static long boundedNextLong(RandomGenerator rng, long origin, long bound) {
+        return origin + nextUnsignedLong(rng, bound - origin);
+    }
+
+    /**
+     * bound 为 [1, 2^32] 内的无符号数
+     */
+    private static long nextUnsignedInt(RandomGenerator rng, long bound) {
+        long m = (rng.nextLong() >>> 32) * bound;
+        long l = m & 0xFFFFFFFFL;
+        if (l < bound) {
+            // 2^32 mod bound, 低位小于它的乘积需要拒绝
+            long threshold = (1L << 32) % bound;
+            while (l < threshold) {
+                if (RandomMetrics.ENABLED) {
+                    RandomMetrics.recordBoundedRetry(bound);
+                }
+                m = (rng.nextLong() >>> 32) * bound;
+                l = m & 0xFFFFFFFFL;
+            }
+        }
+        return m >>> 32;
+    }
+
+    /**
+     * bound 为非零无符号 64 位数
+     */
+    private static long nextUnsignedLong(RandomGenerator rng, long bound) {
+        long r = rng.nextLong();
+        long l = r * bound;
+        if (Long.compareUnsigned(l, bound) < 0) {
+            // 2^64 mod bound
+            long threshold = Long.remainderUnsigned(-bound, bound);
+            while (Long.compareUnsigned(l, threshold) < 0) {
+                if (RandomMetrics.ENABLED) {
+                    RandomMetrics.recordBoundedRetry(bound);
+                }
+                r = rng.nextLong();
+                l = r * bound;
+            }
+        }
+        return unsignedMultiplyHigh(r, bound);
+    }
+
+    /**
+     * 无符号 128 位乘积的高 64 位 (Java 18 起为 Math.unsignedMultiplyHigh)
+     */
+    public static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * 以大端序每 8 字节写入一个 nextLong(), 末尾不足 8 字节时取该 long 的高位字节
+     * {@link Random} 与 {@link RandomEngine} 的 nextBytes 共用此实现, 字节布局因此保持一致
+     */
+    public static void nextBytes(RandomGenerator rng, byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int i = offset;
+        int end = offset + length;
+        for (int limit = end - 7; i < limit; i += 8) {
+            BYTE_ARRAY_VIEW.set(bytes, i, rng.nextLong());
+        }
+        if (i < end) {
+            long r = rng.nextLong();
+            for (; i < end; i++) {
+                bytes[i] = (byte) (r >>> 56);
+                r <<= 8;
+            }
+        }
+    }
+
+    /**
+     * 填充 position 到 limit 之间的字节, 完成后 position 移动到 limit, 字节布局与 {@link #nextBytes(RandomGenerator, byte[], int, int)} 相同
+     * 堆外 (direct) 缓冲区直接写入, 不经过临时数组
+     */
+    public static void nextBytes(RandomGenerator rng, ByteBuffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int position = buffer.position();
+        int end = buffer.limit();
+        if (buffer.hasArray()) {
+            nextBytes(rng, buffer.array(), buffer.arrayOffset() + position, end - position);
+            buffer.position(end);
+            return;
+        }
+        int i = position;
+        for (int limit = end - 7; i < limit; i += 8) {
+            BYTE_BUFFER_VIEW.set(buffer, i, rng.nextLong());
+        }
+        if (i < end) {
+            long r = rng.nextLong();
+            for (; i < end; i++) {
+                buffer.put(i, (byte) (r >>> 56));
+                r <<= 8;
+            }
+        }
+        buffer.position(end);
+    }
 }
@@ -0,0 +1,56 @@
+package com.nyaa.common.util.random;
+
+import java.util.Objects;
+
+/**
+ * SplitMix64: 状态为一个 64 位计数器, 每次加上黄金比例常数后经 Stafford variant 13 混合输出, 周期 2^64
+ * 相同种子的输出与 {@code new java.util.SplittableRandom(seed).nextLong()} 相同
+ * 每次只需一次加法与两次乘法, 是本族中最快的引擎, 也用于为其他引擎展开种子
+ * 注意: 非密码安全, 非线程安全
+ *
+ * @see <a href="https://prng.di.unimi.it/splitmix64.c">splitmix64.c</a>
+ */
+public class SplitMix64 extends RandomEngine {
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SplitMix64() {
+        this(Random.getDefaultSeed());
+    }
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(1);
+        }
+        return mix64(this.state += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public void nextLongs(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(length);
+        }
+        long s = this.state;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            s += GOLDEN_GAMMA;
+            values[i] = mix64(s);
+        }
+        this.state = s;
+    }
+
+    /**
+     * Stafford variant 13 混合函数, 是 64 位上的双射
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,200 @@
+package com.nyaa.common.util.random;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * 基于时间的 UUID (v1 / v6) 生成器, RFC 9562 5.1 / 5.6 节
+ * - 时间戳: 自 1582-10-15 起的 100 纳秒间隔数, 由毫秒时钟乘 10000 后以计数器补足, 一次 CAS 分配, 严格递增
+ * - 时钟序列: 14 位, 初始随机; 时钟回拨超过容差或节点变化时加 1
+ * - 节点: 构造时解析一次 MAC 地址, 之后由后台守护线程定期刷新; 取不到时使用随机节点并置多播位
+ * 时钟序列与节点合并为 lsb 模板, 生成时只需读取一次
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9562#section-6.1">RFC 9562 Timestamp Considerations</a>
+ */
+public class TimeBasedUUIDGenerator implements AutoCloseable {
+    /**
+     * 每毫秒的 100 纳秒间隔数
+     */
+    private static final long TICKS_PER_MILLI = 10_000L;
+    /**
+     * 时钟回拨超过 1 秒时更换时钟序列并回到当前时间, 否则沿用上次的时间戳继续递增
+     */
+    private static final long REGRESSION_TOLERANCE = 1000L * TICKS_PER_MILLI;
+    private static final long NODE_MASK = 0xFFFFFFFFFFFFL;
+    /**
+     * 节点首字节的最低位, 真实的 IEEE 802 地址不会设置此位
+     */
+    private static final long MULTICAST_BIT = 0x010000000000L;
+    private static final long DEFAULT_REFRESH_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final RandomGenerator random;
+    private final LongSupplier clock;
+    private final Supplier<byte[]> macSource;
+    /**
+     * 已分配的最后一个时间戳 (100 纳秒)
+     */
+    private final AtomicLong last = new AtomicLong();
+    /**
+     * 变种 (2) | 时钟序列 (14) | 节点 (48), 仅在持有 this 时修改
+     */
+    private volatile long template;
+    private final ScheduledExecutorService refresher;
+
+    public TimeBasedUUIDGenerator() {
+        this(new ConcurrentRandom(), System::currentTimeMillis, Hardware::getMostMac, DEFAULT_REFRESH_MILLIS);
+    }
+
+    /**
+     * @param random         必须是线程安全的, 例如 {@link ConcurrentRandom}
+     * @param clock          毫秒级 Unix 时间戳
+     * @param macSource      返回 6 字节 MAC 地址, 可返回 null
+     * @param refreshMillis  节点刷新间隔, 不大于 0 时不刷新
+     */
+    public TimeBasedUUIDGenerator(RandomGenerator random, LongSupplier clock, Supplier<byte[]> macSource, long refreshMillis) {
+        this.random = Objects.requireNonNull(random);
+        this.clock = Objects.requireNonNull(clock);
+        this.macSource = Objects.requireNonNull(macSource);
+
+        int clockSeq = random.nextInt(1 << 14);
+        this.template = toTemplate(clockSeq, this.resolveNode());
+
+        if (refreshMillis > 0) {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "uuid-node-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.refresher.scheduleWithFixedDelay(this::refreshNode, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.refresher = null;
+        }
+    }
+
+    public UUID generateV1() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(1, 1);
+        }
+        return this.generate(1);
+    }
+
+    public UUID generateV6() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(6, 1);
+        }
+        return this.generate(6);
+    }
+
+    /**
+     * 当前节点, 48 位
+     */
+    public long getNode() {
+        return this.template & NODE_MASK;
+    }
+
+    public int getClockSequence() {
+        return (int) (this.template >>> 48) & 0x3FFF;
+    }
+
+    /**
+     * 重新解析节点, 节点变化时时钟序列加 1
+     */
+    public synchronized void refreshNode() {
+        long node = this.resolveNode();
+        long template = this.template;
+        if ((template & NODE_MASK) != node) {
+            this.template = toTemplate(this.getClockSequence() + 1, node);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.refresher != null) {
+            this.refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * 不计入 {@link RandomMetrics}, 供 v2 在此基础上改写
+     */
+    UUID generate(int version) {
+        while (true) {
+            long previous = this.last.get();
+            // 必须在读取 last 之后读取模板, 见 onClockRegression
+            long template = this.template;
+            long now = (this.clock.getAsLong() + UUID.UUID_EPOCH) * TICKS_PER_MILLI;
+            if (now + REGRESSION_TOLERANCE < previous) {
+                this.onClockRegression(previous, now);
+                continue;
+            }
+            long timestamp = Math.max(now, previous + 1);
+            if (this.last.compareAndSet(previous, timestamp)) {
+                return new UUID(version == 1 ? toV1Msb(timestamp) : toV6Msb(timestamp), template);
+            }
+        }
+    }
+
+    /**
+     * 先更换时钟序列, 再回退时间戳; 生成方先读 last 再读模板, 因此回退后的时间戳一定搭配新的时钟序列
+     */
+    private synchronized void onClockRegression(long previous, long now) {
+        if (this.last.get() != previous) {
+            return;
+        }
+        this.template = toTemplate(this.getClockSequence() + 1, this.getNode());
+        this.last.set(now);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordClockRegression(previous, now, this.getClockSequence());
+        }
+    }
+
+    private long resolveNode() {
+        long start = RandomMetrics.ENABLED ? System.nanoTime() : 0L;
+        byte[] mac = null;
+        try {
+            mac = this.macSource.get();
+        } catch (RuntimeException ignored) {
+        }
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordNicLookup(start, mac != null && mac.length == 6);
+        }
+        if (mac != null && mac.length == 6) {
+            long node = 0L;
+            for (int i = 0; i < 6; i++) {
+                node = (node << 8) | (mac[i] & 0xFFL);
+            }
+            if (node != 0L) {
+                return node;
+            }
+        }
+        long node = this.template & NODE_MASK;
+        if ((node & MULTICAST_BIT) != 0) {
+            // 已在使用随机节点, 保持不变
+            return node;
+        }
+        return (this.random.nextLong() & NODE_MASK) | MULTICAST_BIT;
+    }
+
+    private static long toV1Msb(long timestamp) {
+        // time_low (32) | time_mid (16) | ver (4) | time_high (12)
+        return (timestamp << 32)
+                | ((timestamp >>> 16) & 0xFFFF0000L)
+                | 0x1000L
+                | ((timestamp >>> 48) & 0x0FFFL);
+    }
+
+    private static long toV6Msb(long timestamp) {
+        // time_high (32) | time_mid (16) | ver (4) | time_low (12)
+        return ((timestamp >>> 12) << 16) | 0x6000L | (timestamp & 0x0FFFL);
+    }
+
+    private static long toTemplate(int clockSeq, long node) {
+        return 0x8000000000000000L | ((clockSeq & 0x3FFFL) << 48) | node;
+    }
+}
@@ -2,18 +2,19 @@ package com.nyaa.common.util.random;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * able 1 defines the 4-bit version found in Bits 48 through 51 within a given UUID.
@@ -21,370 +22,676 @@ import java.util.Map;
  * @see <a href="https://www.ietf.org/archive/id/draft-peabody-dispatch-new-uuid-format-01.html#name-versions">version and variant</a>
  * @see <a href="https://www.rfc-editor.org/rfc/rfc4122#section-4.1.1">...</a>
  */
-public class UUID {
+public class UUID implements Comparable<UUID> {
     private static final ByteOrder BYTE_ORDER = ByteOrder.BIG_ENDIAN;
-    private static final long UUID_EPOCH = 12219292800000L;
-    private static final Random random = new Random();
-    private final byte[] bytes;
+    static final VarHandle BYTE_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, BYTE_ORDER);
+    /**
+     * 1582-10-15 (格里高利历起点) 到 Unix 纪元的毫秒数
+     */
+    static final long UUID_EPOCH = 12219292800000L;
+    private static final String BAD_FORMAT = "Invalid UUID string: ";
+    private static final String NOT_APPLICABLE = "Field not present in UUID version ";
+    /**
+     * 所有工厂方法共享, 各线程使用互不重叠的子序列
+     */
+    private static final ConcurrentRandom random = new ConcurrentRandom();
+    private static final UUIDv7Generator v7Generator = new UUIDv7Generator(random, System::currentTimeMillis);
+    /**
+     * 大端序的高 64 位 (字节 0 ~ 7) 与低 64 位 (字节 8 ~ 15)
+     */
+    private final long msb;
+    private final long lsb;
 
     public UUID() {
-        this.bytes = new byte[16];
-        new Random().nextBytes(this.bytes);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(4, 1);
+        }
+        this.msb = withVersion(random.nextLong(), 4);
+        this.lsb = withRFC4122Variant(random.nextLong());
+    }
 
-        setVersion(bytes, 4);
-        setRFC4122Variant(bytes);
+    public UUID(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
     }
 
+    /**
+     * 复制 bytes 的内容, 之后修改 bytes 不影响本对象
+     */
     public UUID(byte[] bytes) {
         if (bytes.length != 16) {
             throw new IllegalArgumentException("UUID must be 16 bytes long");
         }
-        this.bytes = bytes;
+        this.msb = (long) BYTE_ARRAY_VIEW.get(bytes, 0);
+        this.lsb = (long) BYTE_ARRAY_VIEW.get(bytes, 8);
     }
 
-    public static UUID createV1() {
-        byte[] bytes = new byte[16];
-
-        long timestamp = System.currentTimeMillis() + UUID_EPOCH;
-        int clockSeq = random.nextInt(0, 1 << 14);
-        byte[] node = Hardware.getMostMac();
-        assert node != null;
-
-        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(UUID.BYTE_ORDER);
+    public static UUID fromJavaUUID(java.util.UUID uuid) {
+        return new UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
 
-        // 时间戳 (60-bit)
-        buffer.putLong(0, timestamp);
-        // 时钟序列 (14-bit)
-        buffer.putShort(8, (short) clockSeq);
-        // 节点 (MAC地址) (48-bit)
-        System.arraycopy(node, 0, bytes, 10, 6);
+    /**
+     * 解析标准格式 (36 字符), 无连字符格式 (32 字符) 或带花括号的格式 (38 字符), 大小写均可
+     *
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static UUID parse(CharSequence text) {
+        UUID uuid = tryParse(text);
+        if (uuid == null) {
+            throw new IllegalArgumentException(BAD_FORMAT + text);
+        }
+        return uuid;
+    }
 
-        setVersion(bytes, 1);
-        setRFC4122Variant(bytes);
+    /**
+     * 与 {@link #parse(CharSequence)} 相同, 格式错误时返回 null 而不抛出异常
+     */
+    public static UUID tryParse(CharSequence text) {
+        int length = text.length();
+        // 连字符个数为 1 时, 第 i 个连字符之后的字符整体右移 i 位
+        int base;
+        int hyphen;
+        if (length == 36) {
+            base = 0;
+            hyphen = 1;
+        } else if (length == 38 && text.charAt(0) == '{' && text.charAt(37) == '}') {
+            base = 1;
+            hyphen = 1;
+        } else if (length == 32) {
+            base = 0;
+            hyphen = 0;
+        } else {
+            return null;
+        }
+        if (hyphen != 0 && (text.charAt(base + 8) != '-' || text.charAt(base + 13) != '-'
+                || text.charAt(base + 18) != '-' || text.charAt(base + 23) != '-')) {
+            return null;
+        }
+        int h0 = hex4(text, base);
+        int h1 = hex4(text, base + 4);
+        int h2 = hex4(text, base + 8 + hyphen);
+        int h3 = hex4(text, base + 12 + 2 * hyphen);
+        int h4 = hex4(text, base + 16 + 3 * hyphen);
+        int h5 = hex4(text, base + 20 + 4 * hyphen);
+        int h6 = hex4(text, base + 24 + 4 * hyphen);
+        int h7 = hex4(text, base + 28 + 4 * hyphen);
+        if ((h0 | h1 | h2 | h3 | h4 | h5 | h6 | h7) < 0) {
+            return null;
+        }
+        long msb = ((long) h0 << 48) | ((long) h1 << 32) | ((long) h2 << 16) | h3;
+        long lsb = ((long) h4 << 48) | ((long) h5 << 32) | ((long) h6 << 16) | h7;
+        return new UUID(msb, lsb);
+    }
 
-        return new UUID(bytes);
+    /**
+     * 解析 ASCII 字节数组中 [offset, offset + length) 的内容, 格式同 {@link #parse(CharSequence)}
+     *
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static UUID parse(byte[] ascii, int offset, int length) {
+        UUID uuid = tryParse(ascii, offset, length);
+        if (uuid == null) {
+            throw new IllegalArgumentException(BAD_FORMAT + new String(ascii, offset, length, StandardCharsets.ISO_8859_1));
+        }
+        return uuid;
     }
 
-    public static UUID createV2(byte type) {
-        // 设置版本2，类似版本1，但在node部分使用POSIX UID/GID字段
-        UUID uuid = createV1();
-        uuid.bytes[9] = type;
+    /**
+     * 与 {@link #parse(byte[], int, int)} 相同, 格式错误时返回 null 而不抛出异常
+     */
+    public static UUID tryParse(byte[] ascii, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, ascii.length);
+        // 连字符个数为 1 时, 第 i 个连字符之后的字符整体右移 i 位
+        int base;
+        int hyphen;
+        if (length == 36) {
+            base = offset;
+            hyphen = 1;
+        } else if (length == 38 && ascii[offset] == '{' && ascii[offset + 37] == '}') {
+            base = offset + 1;
+            hyphen = 1;
+        } else if (length == 32) {
+            base = offset;
+            hyphen = 0;
+        } else {
+            return null;
+        }
+        if (hyphen != 0 && (ascii[base + 8] != '-' || ascii[base + 13] != '-'
+                || ascii[base + 18] != '-' || ascii[base + 23] != '-')) {
+            return null;
+        }
+        int h0 = hex4(ascii, base);
+        int h1 = hex4(ascii, base + 4);
+        int h2 = hex4(ascii, base + 8 + hyphen);
+        int h3 = hex4(ascii, base + 12 + 2 * hyphen);
+        int h4 = hex4(ascii, base + 16 + 3 * hyphen);
+        int h5 = hex4(ascii, base + 20 + 4 * hyphen);
+        int h6 = hex4(ascii, base + 24 + 4 * hyphen);
+        int h7 = hex4(ascii, base + 28 + 4 * hyphen);
+        if ((h0 | h1 | h2 | h3 | h4 | h5 | h6 | h7) < 0) {
+            return null;
+        }
+        long msb = ((long) h0 << 48) | ((long) h1 << 32) | ((long) h2 << 16) | h3;
+        long lsb = ((long) h4 << 48) | ((long) h5 << 32) | ((long) h6 << 16) | h7;
+        return new UUID(msb, lsb);
+    }
 
-        setVersion(uuid.bytes, 2);
-        // setRFC4122Variant(uuid.bytes);
+    /**
+     * 解析 position 到 limit 之间的 ASCII 内容, 不改变 position
+     *
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static UUID parse(ByteBuffer buffer) {
+        UUID uuid = tryParse(buffer);
+        if (uuid == null) {
+            throw new IllegalArgumentException(BAD_FORMAT + StandardCharsets.ISO_8859_1.decode(buffer.duplicate()));
+        }
         return uuid;
     }
 
-    public static UUID createV3(String namespace, String name) throws NoSuchAlgorithmException {
-        byte[] bytes = new byte[16];
-
-        MessageDigest md5 = MessageDigest.getInstance("MD5");
-        md5.update(namespace.getBytes());
-        md5.update(name.getBytes());
-        System.arraycopy(md5.digest(), 0, bytes, 0, 16);
+    /**
+     * 与 {@link #parse(ByteBuffer)} 相同, 格式错误时返回 null 而不抛出异常
+     */
+    public static UUID tryParse(ByteBuffer buffer) {
+        int position = buffer.position();
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            return tryParse(buffer.array(), buffer.arrayOffset() + position, length);
+        }
+        // 连字符个数为 1 时, 第 i 个连字符之后的字符整体右移 i 位
+        int base;
+        int hyphen;
+        if (length == 36) {
+            base = position;
+            hyphen = 1;
+        } else if (length == 38 && buffer.get(position) == '{' && buffer.get(position + 37) == '}') {
+            base = position + 1;
+            hyphen = 1;
+        } else if (length == 32) {
+            base = position;
+            hyphen = 0;
+        } else {
+            return null;
+        }
+        if (hyphen != 0 && (buffer.get(base + 8) != '-' || buffer.get(base + 13) != '-'
+                || buffer.get(base + 18) != '-' || buffer.get(base + 23) != '-')) {
+            return null;
+        }
+        int h0 = hex4(buffer, base);
+        int h1 = hex4(buffer, base + 4);
+        int h2 = hex4(buffer, base + 8 + hyphen);
+        int h3 = hex4(buffer, base + 12 + 2 * hyphen);
+        int h4 = hex4(buffer, base + 16 + 3 * hyphen);
+        int h5 = hex4(buffer, base + 20 + 4 * hyphen);
+        int h6 = hex4(buffer, base + 24 + 4 * hyphen);
+        int h7 = hex4(buffer, base + 28 + 4 * hyphen);
+        if ((h0 | h1 | h2 | h3 | h4 | h5 | h6 | h7) < 0) {
+            return null;
+        }
+        long msb = ((long) h0 << 48) | ((long) h1 << 32) | ((long) h2 << 16) | h3;
+        long lsb = ((long) h4 << 48) | ((long) h5 << 32) | ((long) h6 << 16) | h7;
+        return new UUID(msb, lsb);
+    }
 
-        setVersion(bytes, 3);
-        setRFC4122Variant(bytes);
+    /**
+     * 解码 4 个十六进制字符, 含非法字符时返回负数 (-1 左移后符号位仍为 1)
+     */
+    private static int hex4(CharSequence text, int index) {
+        return (DataCast.hexValue(text.charAt(index)) << 12)
+                | (DataCast.hexValue(text.charAt(index + 1)) << 8)
+                | (DataCast.hexValue(text.charAt(index + 2)) << 4)
+                | DataCast.hexValue(text.charAt(index + 3));
+    }
 
-        return new UUID(bytes);
+    private static int hex4(byte[] ascii, int index) {
+        return (DataCast.hexValue(ascii[index] & 0xFF) << 12)
+                | (DataCast.hexValue(ascii[index + 1] & 0xFF) << 8)
+                | (DataCast.hexValue(ascii[index + 2] & 0xFF) << 4)
+                | DataCast.hexValue(ascii[index + 3] & 0xFF);
     }
 
-    public static UUID createV4() {
-        return createV4(random.nextLong());
+    private static int hex4(ByteBuffer buffer, int index) {
+        return (DataCast.hexValue(buffer.get(index) & 0xFF) << 12)
+                | (DataCast.hexValue(buffer.get(index + 1) & 0xFF) << 8)
+                | (DataCast.hexValue(buffer.get(index + 2) & 0xFF) << 4)
+                | DataCast.hexValue(buffer.get(index + 3) & 0xFF);
     }
 
-    public static UUID createV4(long seed) {
-        byte[] bytes = new byte[16];
-        new Random(seed).nextBytes(bytes);
+    /**
+     * 节点与时钟序列由 {@link TimeBasedUUIDGenerator} 缓存, 不再每次枚举网卡
+     */
+    public static UUID createV1() {
+        return TimeBasedHolder.GENERATOR.generateV1();
+    }
 
-        setVersion(bytes, 4);
-        setRFC4122Variant(bytes);
+    public static UUID createV2(byte type) {
+        // 设置版本2，类似版本1，但在node部分使用POSIX UID/GID字段
+        UUID uuid = TimeBasedHolder.GENERATOR.generate(1);
+        long lsb = (uuid.lsb & ~(0xFFL << 48)) | ((type & 0xFFL) << 48);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(2, 1);
+        }
 
-        return new UUID(bytes);
+        return new UUID(withVersion(uuid.msb, 2), lsb);
     }
 
-    public static UUID createV5(String namespace, String name) throws NoSuchAlgorithmException {
-        byte[] bytes = new byte[16];
-
-        MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
-        sha1.update(namespace.getBytes());
-        sha1.update(name.getBytes());
+    /**
+     * 按 RFC 对命名空间的 16 字节与名字的 UTF-8 编码做 MD5, 见 {@link NameBasedUUIDGenerator}
+     * 与旧版不同, namespace 不再按任意字符串的字节参与摘要, 必须是 UUID 文本
+     *
+     * @param namespace UUID 文本, 例如 {@link NameBasedUUIDGenerator#NAMESPACE_DNS}
+     * @throws IllegalArgumentException namespace 不是合法的 UUID 文本
+     */
+    public static UUID createV3(String namespace, String name) {
+        return new NameBasedUUIDGenerator(parse(namespace), 3).generate(name);
+    }
 
-        System.arraycopy(sha1.digest(), 0, bytes, 0, 16);
+    public static UUID createV4() {
+        // 直接取 128 位随机数, 若经 64 位种子中转则最多只有 2^64 种结果
+        Random current = random.current();
+        return ofV4(current.nextLong(), current.nextLong());
+    }
 
-        setVersion(bytes, 5);
-        setRFC4122Variant(bytes);
+    public static UUID createV4(long seed) {
+        Random seeded = new Random(seed);
+        return ofV4(seeded.nextLong(), seeded.nextLong());
+    }
 
-        return new UUID(bytes);
+    /**
+     * 按 RFC 对命名空间的 16 字节与名字的 UTF-8 编码做 SHA-1, 见 {@link NameBasedUUIDGenerator}
+     * 与旧版不同, namespace 不再按任意字符串的字节参与摘要, 必须是 UUID 文本
+     *
+     * @param namespace UUID 文本, 例如 {@link NameBasedUUIDGenerator#NAMESPACE_DNS}
+     * @throws IllegalArgumentException namespace 不是合法的 UUID 文本
+     */
+    public static UUID createV5(String namespace, String name) {
+        return new NameBasedUUIDGenerator(parse(namespace), 5).generate(name);
     }
 
     public static UUID createV6() {
-        byte[] bytes = new byte[16];
-
-        // 重新排序时间戳并设置UUID版本6
-        long timestamp = System.currentTimeMillis() + UUID_EPOCH;
-        int timeLow = (int) timestamp;
-        long timeMid = (timestamp >>> 32) & 0xFFFFL;
-        long timeHigh = (timestamp >>> 48) & 0x0FFFL;
-        int clockSeq = random.nextInt(0, 1 << 14);
-        byte[] node = Hardware.getMostMac();
-        assert node != null;
-
-        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(UUID.BYTE_ORDER);
-        buffer.putInt(0, timeLow);
-        buffer.putShort(4, (short) timeMid);
-        buffer.putShort(6, (short) timeHigh);
-        buffer.putShort(8, (short) clockSeq);
-        System.arraycopy(node, 0, bytes, 10, 6);
-
-        setVersion(bytes, 6);
-        setRFC4122Variant(bytes);
-
-        return new UUID(bytes);
+        return TimeBasedHolder.GENERATOR.generateV6();
     }
 
+    /**
+     * 同一进程内严格递增, 见 {@link UUIDv7Generator}
+     */
     public static UUID createV7() {
-        byte[] bytes = new byte[16];
-
-        long timestamp = System.currentTimeMillis();
-
-        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(UUID.BYTE_ORDER);
-        buffer.putLong(0, (timestamp << 16) | random.nextInt(1 << 16));
-        buffer.putLong(8, random.nextLong());
-
-        setVersion(bytes, 7);
-        setRFC4122Variant(bytes);
+        return v7Generator.generate();
+    }
 
-        return new UUID(bytes);
+    /**
+     * 由 128 位随机数构造 v4, 覆盖版本与变种位
+     */
+    static UUID ofV4(long randomHigh, long randomLow) {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(4, 1);
+        }
+        return new UUID(withVersion(randomHigh, 4), withRFC4122Variant(randomLow));
     }
 
-    private static void setVersion(byte[] bytes, int version) {
-        bytes[6] = (byte) ((bytes[6] & 0x0F) | ((version & 0x0F) << 4));
+    private static long withVersion(long msb, int version) {
+        return (msb & ~0xF000L) | ((version & 0x0FL) << 12);
     }
 
     // RFC 4122 变种号设置
-    private static void setRFC4122Variant(byte[] bytes) {
-        bytes[8] = (byte) ((bytes[8] & 0x3F) | 0x80); // 设为0b10xxxxxx
+    private static long withRFC4122Variant(long lsb) {
+        return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // 设为0b10xxxxxx
     }
 
     // Microsoft 变种号设置
-    private static void setMicrosoftVariant(byte[] bytes) {
-        bytes[8] = (byte) ((bytes[8] & 0x1F) | 0xC0); // 设为0b110xxxxx
+    private static long withMicrosoftVariant(long lsb) {
+        return (lsb & 0x1FFFFFFFFFFFFFFFL) | 0xC000000000000000L; // 设为0b110xxxxx
     }
 
-    @Override
-    public String toString() {
-        byte[] chars = new byte[36]; // UUID 字符串长度为 36
+    /**
+     * 首次使用 v1 / v2 / v6 时才解析网卡
+     */
+    private static class TimeBasedHolder {
+        static final TimeBasedUUIDGenerator GENERATOR = new TimeBasedUUIDGenerator(
+                random, System::currentTimeMillis, Hardware::getMostMac, TimeUnit.MINUTES.toMillis(10));
+    }
 
-        // 添加 UUID 分隔符
-        chars[8] = '-';
-        chars[13] = '-';
-        chars[18] = '-';
-        chars[23] = '-';
+    public long getMostSignificantBits() {
+        return this.msb;
+    }
 
-        return DataCast.bytesToHexWithSeparator(this.bytes, chars, false);
+    public long getLeastSignificantBits() {
+        return this.lsb;
     }
 
-    public String getMetadata() {
-        return Parser.parseUUID(this.bytes);
+    /**
+     * 版本号, 即第 48 ~ 51 位, 不校验变种
+     */
+    public int version() {
+        return (int) (this.msb >>> 12) & 0x0F;
     }
 
-    @Slf4j
-    public static class Parser {
-        private static final String UNKNOWN_VERSION = "* Unknown Version *";
-        private static final String UNKNOWN_VARIANT = "* Unknown Variant *";
+    public Variant variant() {
+        return Variant.of(this.lsb);
+    }
 
-        public static String parseUUID(UUID uuid) {
-            return parseUUID(uuid.bytes);
+    /**
+     * Unix 毫秒时间戳, 适用于 v1 / v6 (由 100 纳秒时间戳换算) 与 v7
+     *
+     * @throws UnsupportedOperationException 其它版本或非 RFC 变种
+     */
+    public long timestampMillis() {
+        int version = this.checkVersion(1, 6, 7);
+        if (version == 7) {
+            return this.msb >>> 16;
         }
+        return Math.floorDiv(this.rawTimestamp(version), 10_000L) - UUID_EPOCH;
+    }
 
-        public static String parseUUID(byte[] bytes) {
-            Variant variant = Variant.getVariant(bytes);
-
-            String sb = "{ Version: " +
-                    Version.getVersion(bytes) +
-                    ", Variant: (" +
-                    variant.value +
-                    ") " +
-                    variant +
-                    ", Metadata: { " +
-                    Version.getMetadata(bytes) +
-                    " }}";
+    /**
+     * 自 1582-10-15 起的 100 纳秒间隔数 (60 位), 适用于 v1 / v6
+     *
+     * @throws UnsupportedOperationException 其它版本或非 RFC 变种
+     */
+    public long timestamp100ns() {
+        return this.rawTimestamp(this.checkVersion(1, 6, 6));
+    }
 
-            return sb;
-        }
+    /**
+     * 14 位时钟序列, 适用于 v1 / v6
+     *
+     * @throws UnsupportedOperationException 其它版本或非 RFC 变种
+     */
+    public int clockSequence() {
+        this.checkVersion(1, 6, 6);
+        return (int) (this.lsb >>> 48) & 0x3FFF;
+    }
 
-        private static String parseV1Metadata(byte[] bytes) {
-            long timestamp = getTimestamp(bytes);
-            short clockSeq = getClockSeq(bytes);
-            String mac = Hardware.getMacText(bytes);
+    /**
+     * 48 位节点 (字节 10 ~ 15), 适用于 v1 / v2 / v6
+     *
+     * @throws UnsupportedOperationException 其它版本或非 RFC 变种
+     */
+    public long nodeAsLong() {
+        this.checkVersion(1, 2, 6);
+        return this.lsb & 0xFFFFFFFFFFFFL;
+    }
 
-            String sb = "Timestamp: " +
-                    timestamp +
-                    '(' +
-                    getTimestampText(timestamp) +
-                    "), Clock Sequence: " +
-                    clockSeq +
-                    ", Node (MAC Address): " +
-                    mac;
-            return sb;
-        }
+    /**
+     * 低 64 位去掉变种位后的 62 位随机数 (v4 的 random_c, v7 的 rand_b), 高 64 位中的随机部分可由 {@link #getMostSignificantBits()} 取得
+     *
+     * @throws UnsupportedOperationException 其它版本或非 RFC 变种
+     */
+    public long randomBits() {
+        this.checkVersion(4, 7, 7);
+        return this.lsb & 0x3FFFFFFFFFFFFFFFL;
+    }
 
-        private static String parseV2Metadata(byte[] bytes) {
-            // DCE Security UUIDv2: Metadata here.
-            return "* User Define *";
+    /**
+     * v1: time_low (32) | time_mid (16) | ver (4) | time_high (12)
+     * v6: time_high (32) | time_mid (16) | ver (4) | time_low (12)
+     */
+    private long rawTimestamp(int version) {
+        if (version == 1) {
+            return ((this.msb & 0x0FFFL) << 48) | (((this.msb >>> 16) & 0xFFFFL) << 32) | (this.msb >>> 32);
         }
+        return ((this.msb >>> 16) << 12) | (this.msb & 0x0FFFL);
+    }
 
-        private static String parseHashBasedMetadata(byte[] bytes, String algorithm) {
-            String sb = "Hash Algorithm: " +
-                    algorithm +
-                    ", Hash Value: " +
-                    DataCast.bytesToHex(bytes, false);
-            return sb;
+    /**
+     * 要求为 RFC 变种且版本为给定值之一, 返回版本号
+     */
+    private int checkVersion(int a, int b, int c) {
+        int version = this.version();
+        if ((version != a && version != b && version != c) || this.variant() != Variant.RFC4122) {
+            throw new UnsupportedOperationException(NOT_APPLICABLE + version);
         }
+        return version;
+    }
 
-        private static String parseRandomMetadata(byte[] bytes) {
-            return "Random Bytes: " + DataCast.bytesToHex(bytes, false);
-        }
+    public java.util.UUID toJavaUUID() {
+        return new java.util.UUID(this.msb, this.lsb);
+    }
 
-        private static String parseV6Metadata(byte[] bytes) {
-            long timestamp = getTimestampV6(bytes);
-            short clockSeq = getClockSeq(bytes);
-            String mac = Hardware.getMacText(bytes);
+    /**
+     * 返回新的 16 字节大端序数组
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[16];
+        BYTE_ARRAY_VIEW.set(bytes, 0, this.msb);
+        BYTE_ARRAY_VIEW.set(bytes, 8, this.lsb);
+        return bytes;
+    }
 
-            String sb = "Timestamp: " +
-                    timestamp +
-                    '(' +
-                    getTimestampText(timestamp) +
-                    "), Clock Sequence: " +
-                    clockSeq +
-                    ", Node (MAC Address): " +
-                    mac;
-            return sb;
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
         }
+        if (!(obj instanceof UUID)) {
+            return false;
+        }
+        UUID other = (UUID) obj;
+        return this.msb == other.msb && this.lsb == other.lsb;
+    }
 
-        private static String printV7Metadata(byte[] bytes) {
-            long timestamp = getTimestampV7(bytes);
-            String randomValue = getRandomValueV7(bytes);
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.msb ^ this.lsb);
+    }
 
-            String sb = "Timestamp: " +
-                    timestamp +
-                    '(' +
-                    getTimestampText(timestamp) +
-                    "), Random Value: " +
-                    randomValue;
-            return sb;
-        }
+    /**
+     * 按 128 位无符号数比较, 与字节序 / 字符串的字典序一致, v6 / v7 因此按时间排序
+     */
+    @Override
+    public int compareTo(UUID other) {
+        int result = Long.compareUnsigned(this.msb, other.msb);
+        return result != 0 ? result : Long.compareUnsigned(this.lsb, other.lsb);
+    }
 
-        private static long getTimestamp(byte[] bytes) {
-            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, 8).order(UUID.BYTE_ORDER);
-            return buffer.getLong() - UUID.UUID_EPOCH;
-        }
+    @Override
+    public String toString() {
+        byte[] chars = new byte[36]; // UUID 字符串长度为 36
+        this.writeTo(chars, 0);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
 
-        private static long getTimestampV6(byte[] bytes) {
-            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, 8).order(UUID.BYTE_ORDER);
-            long timeLow = buffer.getInt() & 0xFFFFFFFFL; // 读取前 4 字节
-            long timeMid = Short.toUnsignedLong(buffer.getShort()); // 读取接下来的 2 字节
-            long timeHigh = Short.toUnsignedLong(buffer.getShort()) & 0x0FFFL; // 读取接下来的 2 字节
-            return ((timeHigh << 48) | (timeMid << 32) | timeLow) - UUID.UUID_EPOCH;
-        }
+    /**
+     * 将与 {@link #toString()} 相同的 36 个 ASCII 字符写入 dst[offset] 起始处
+     */
+    public void writeTo(byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 36, dst.length);
+        DataCast.longToHex(this.msb >>> 32, 4, dst, offset, false);
+        dst[offset + 8] = '-';
+        DataCast.longToHex(this.msb >>> 16, 2, dst, offset + 9, false);
+        dst[offset + 13] = '-';
+        DataCast.longToHex(this.msb, 2, dst, offset + 14, false);
+        dst[offset + 18] = '-';
+        DataCast.longToHex(this.lsb >>> 48, 2, dst, offset + 19, false);
+        dst[offset + 23] = '-';
+        DataCast.longToHex(this.lsb, 6, dst, offset + 24, false);
+    }
 
-        private static long getTimestampV7(byte[] bytes) {
-            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, 6).order(UUID.BYTE_ORDER);
-            return ((buffer.getInt() & 0xFFFFFFFFL) << 16) | (buffer.getShort() & 0xFFFFL);
+    /**
+     * 在 position 处写入 36 个 ASCII 字符, position 随之前进
+     *
+     * @throws BufferOverflowException 剩余空间不足 36 字节
+     */
+    public void writeTo(ByteBuffer dst) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
         }
-
-        private static String getRandomValueV7(byte[] bytes) {
-            return DataCast.bytesToHex(Arrays.copyOfRange(bytes, 6, 16), false);
+        int offset = dst.position();
+        if (dst.remaining() < 36) {
+            throw new BufferOverflowException();
         }
+        DataCast.longToHex(this.msb >>> 32, 4, dst, offset, false);
+        dst.put(offset + 8, (byte) '-');
+        DataCast.longToHex(this.msb >>> 16, 2, dst, offset + 9, false);
+        dst.put(offset + 13, (byte) '-');
+        DataCast.longToHex(this.msb, 2, dst, offset + 14, false);
+        dst.put(offset + 18, (byte) '-');
+        DataCast.longToHex(this.lsb >>> 48, 2, dst, offset + 19, false);
+        dst.put(offset + 23, (byte) '-');
+        DataCast.longToHex(this.lsb, 6, dst, offset + 24, false);
+        dst.position(offset + 36);
+    }
 
-        private static short getClockSeq(byte[] bytes) {
-            ByteBuffer buffer = ByteBuffer.wrap(bytes, 8, 2).order(UUID.BYTE_ORDER);
-            return buffer.getShort();
-        }
+    /**
+     * 追加与 {@link #toString()} 相同的 36 个字符, 不创建中间对象
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.ensureCapacity(sb.length() + 36);
+        DataCast.longToHex(this.msb >>> 32, 4, sb, false).append('-');
+        DataCast.longToHex(this.msb >>> 16, 2, sb, false).append('-');
+        DataCast.longToHex(this.msb, 2, sb, false).append('-');
+        DataCast.longToHex(this.lsb >>> 48, 2, sb, false).append('-');
+        return DataCast.longToHex(this.lsb, 6, sb, false);
+    }
 
-        private static String getTimestampText(long timestamp) {
-            // 将时间戳转换为 Instant
-            Instant instant = Instant.ofEpochMilli(timestamp);
+    /**
+     * 同 {@link #appendTo(StringBuilder)}, 按字节查表追加, 分隔符位置固定
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        if (out instanceof StringBuilder) {
+            this.appendTo((StringBuilder) out);
+            return out;
+        }
+        DataCast.longToHex(this.msb >>> 32, 4, out, false).append('-');
+        DataCast.longToHex(this.msb >>> 16, 2, out, false).append('-');
+        DataCast.longToHex(this.msb, 2, out, false).append('-');
+        DataCast.longToHex(this.lsb >>> 48, 2, out, false).append('-');
+        DataCast.longToHex(this.lsb, 6, out, false);
+        return out;
+    }
 
-            // 将 Instant 转换为 ZonedDateTime（UTC时区）
-            ZonedDateTime zonedDateTime = instant.atZone(ZoneId.of("UTC"));
+    public String getMetadata() {
+        return Parser.parseUUID(this);
+    }
 
-            // 定义日期时间格式
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    /**
+     * 变种, 取第 64 ~ 66 位
+     */
+    public enum Variant {
+        RESERVED_NCS_BACKWARD_COMPATIBILITY(4, "Reserved, NCS backward compatibility"),
+        RFC4122(2, "RFC 4122, variant defined"),
+        RESERVED_FOR_FUTURE_USE(1, "Reserved for future use"),
+        MICROSOFT(0, "Microsoft variant");
+
+        public final int value;
+        public final String description;
+
+        Variant(int value, String description) {
+            this.value = value;
+            this.description = description;
+        }
 
-            return zonedDateTime.format(formatter);
+        static Variant of(long lsb) {
+            if (lsb >= 0) // 0b0xx
+                return Variant.RESERVED_NCS_BACKWARD_COMPATIBILITY;
+            if ((lsb & 0x4000000000000000L) == 0) // 0b10x
+                return Variant.RFC4122;
+            if ((lsb & 0x2000000000000000L) == 0) // 0b110
+                return Variant.MICROSOFT;
+            return Variant.RESERVED_FOR_FUTURE_USE;
         }
 
-        class Version {
-            public static final Map<Integer, String> VERSION_MAP;
+        @Override
+        public String toString() {
+            return this.description;
+        }
+    }
 
-            static {
-                Map<Integer, String> _VERSION_MAP = new HashMap<>();
-                _VERSION_MAP.put(1, "Timestamp based");
-                _VERSION_MAP.put(2, "DCE Security");
-                _VERSION_MAP.put(3, "MD5 based");
-                _VERSION_MAP.put(4, "Random");
-                _VERSION_MAP.put(5, "SHA-1 based");
-                _VERSION_MAP.put(6, "Ordered");
-                _VERSION_MAP.put(7, "Unix Timestamp based");
-                VERSION_MAP = Collections.unmodifiableMap(_VERSION_MAP);
+    /**
+     * 可读的元数据文本, 字段均取自 {@link #version()}, {@link #timestampMillis()} 等方法
+     */
+    @Slf4j
+    public static class Parser {
+        private static final String UNKNOWN_VERSION = "* Unknown Version *";
+        private static final String UNKNOWN_VARIANT = "* Unknown Variant *";
+        private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+                DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+        private static final String[] VERSION_NAMES = {
+                null,
+                "Timestamp based",
+                "DCE Security",
+                "MD5 based",
+                "Random",
+                "SHA-1 based",
+                "Ordered",
+                "Unix Timestamp based",
+        };
 
-            }
+        public static String parseUUID(UUID uuid) {
+            Variant variant = uuid.variant();
+            int version = uuid.version();
+
+            StringBuilder sb = new StringBuilder(160);
+            sb.append("{ Version: (v").append(version).append(") ")
+                    .append(version < VERSION_NAMES.length && VERSION_NAMES[version] != null ? VERSION_NAMES[version] : UNKNOWN_VERSION)
+                    .append(", Variant: (").append(variant.value).append(") ").append(variant.description)
+                    .append(", Metadata: { ");
+            appendMetadata(sb, uuid, version, variant);
+            return sb.append(" }}").toString();
+        }
 
-            static String getVersion(byte[] bytes) {
-                int version = (bytes[6] >>> 4) & 0xF;
-                return "(v" +
-                        version +
-                        ") " +
-                        VERSION_MAP.getOrDefault(version, UNKNOWN_VERSION);
-            }
+        public static String parseUUID(byte[] bytes) {
+            return parseUUID(new UUID(bytes));
+        }
 
-            static String getMetadata(byte[] bytes) {
-                int version = (bytes[6] >>> 4) & 0xF;
-                Variant variant = Variant.getVariant(bytes);
-                return switch (version) {
-                    case 1 -> variant == Variant.RFC4122 ? parseV1Metadata(bytes) : UNKNOWN_VARIANT;
-                    case 2 -> variant == Variant.RFC4122 ? parseV2Metadata(bytes) : UNKNOWN_VARIANT;
-                    case 3 -> parseHashBasedMetadata(bytes, "MD5");
-                    case 4 -> parseRandomMetadata(bytes);
-                    case 5 -> parseHashBasedMetadata(bytes, "SHA-1");
-                    case 6 -> parseV6Metadata(bytes);
-                    case 7 -> printV7Metadata(bytes);
-                    default -> UNKNOWN_VERSION;
-                };
+        private static void appendMetadata(StringBuilder sb, UUID uuid, int version, Variant variant) {
+            switch (version) {
+                case 1, 6 -> {
+                    if (variant != Variant.RFC4122) {
+                        sb.append(UNKNOWN_VARIANT);
+                        return;
+                    }
+                    appendTimestamp(sb, uuid.timestampMillis());
+                    sb.append(", Clock Sequence: ").append(uuid.clockSequence()).append(", Node (MAC Address): ");
+                    appendNode(sb, uuid.nodeAsLong());
+                }
+                // DCE Security UUIDv2: Metadata here.
+                case 2 -> sb.append(variant == Variant.RFC4122 ? "* User Define *" : UNKNOWN_VARIANT);
+                case 3, 5 -> {
+                    sb.append("Hash Algorithm: ").append(version == 3 ? "MD5" : "SHA-1").append(", Hash Value: ");
+                    appendHex(sb, uuid.msb, 16);
+                    appendHex(sb, uuid.lsb, 16);
+                }
+                case 4 -> {
+                    sb.append("Random Bytes: ");
+                    appendHex(sb, uuid.msb, 16);
+                    appendHex(sb, uuid.lsb, 16);
+                }
+                case 7 -> {
+                    appendTimestamp(sb, uuid.msb >>> 16);
+                    sb.append(", Random Value: ");
+                    appendHex(sb, uuid.msb, 4);
+                    appendHex(sb, uuid.lsb, 16);
+                }
+                default -> sb.append(UNKNOWN_VERSION);
             }
         }
 
-        enum Variant {
-            RESERVED_NCS_BACKWARD_COMPATIBILITY(4, "Reserved, NCS backward compatibility"),
-            RFC4122(2, "RFC 4122, variant defined"),
-            RESERVED_FOR_FUTURE_USE(1, "Microsoft variant"),
-            MICROSOFT(0, "Reserved for future use");
-
-            public final int value;
-            public final String description;
-
-            Variant(int value, String description) {
-                this.value = value;
-                this.description = description;
-            }
+        private static void appendTimestamp(StringBuilder sb, long millis) {
+            sb.append("Timestamp: ").append(millis).append('(');
+            TIMESTAMP_FORMATTER.formatTo(Instant.ofEpochMilli(millis), sb);
+            sb.append(')');
+        }
 
-            static Variant getVariant(byte[] bytes) {
-                int variant = (bytes[8] >>> 5) & 0b111;
-                if ((variant & 0b100) == 0)
-                    return Variant.RESERVED_NCS_BACKWARD_COMPATIBILITY;
-                if ((variant & 0b010) == 0)
-                    return Variant.RFC4122;
-                if ((variant & 0b001) == 0)
-                    return Variant.MICROSOFT;
-                // if ((variant & 0b000) == 0) // 恒为 true
-                return Variant.RESERVED_FOR_FUTURE_USE;
+        /**
+         * 6 字节, 以 '-' 分隔, 大写
+         */
+        private static void appendNode(StringBuilder sb, long node) {
+            for (int shift = 40; shift >= 0; shift -= 8) {
+                sb.append(DataCast.hexChar((int) (node >>> (shift + 4)), false))
+                        .append(DataCast.hexChar((int) (node >>> shift), false));
+                if (shift != 0) {
+                    sb.append('-');
+                }
             }
+        }
 
-            @Override
-            public String toString() {
-                return this.description;
+        /**
+         * value 的低 digits 个十六进制位, 大写
+         */
+        private static void appendHex(StringBuilder sb, long value, int digits) {
+            for (int shift = 4 * (digits - 1); shift >= 0; shift -= 4) {
+                sb.append(DataCast.hexChar((int) (value >>> shift), false));
             }
         }
     }
@@ -0,0 +1,120 @@
+package com.nyaa.common.util.random;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+/**
+ * UUID 的批量二进制编解码, 每条记录 16 字节, 大端序 (与 {@link UUID#toBytes()} 相同), 不受缓冲区自身字节序影响
+ * 相对方法从 position 开始并前移 position, 绝对方法 (带 index 参数) 不改变 position
+ * JDK 22+ 的 MemorySegment 可通过 {@code segment.asByteBuffer()} 零拷贝地使用
+ */
+public class UUIDBinaryCodec {
+    public static final int RECORD_SIZE = 16;
+
+    private static final VarHandle BYTE_BUFFER_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    public static void write(ByteBuffer dst, int index, UUID uuid) {
+        write(dst, index, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static void write(ByteBuffer dst, int index, long msb, long lsb) {
+        BYTE_BUFFER_VIEW.set(dst, index, msb);
+        BYTE_BUFFER_VIEW.set(dst, index + 8, lsb);
+    }
+
+    public static UUID read(ByteBuffer src, int index) {
+        return new UUID(readMsb(src, index), readLsb(src, index));
+    }
+
+    public static long readMsb(ByteBuffer src, int index) {
+        return (long) BYTE_BUFFER_VIEW.get(src, index);
+    }
+
+    public static long readLsb(ByteBuffer src, int index) {
+        return (long) BYTE_BUFFER_VIEW.get(src, index + 8);
+    }
+
+    /**
+     * 写入 uuids[offset, offset + length)
+     *
+     * @throws BufferOverflowException 剩余空间不足 16 * length 字节
+     */
+    public static void encode(UUID[] uuids, int offset, int length, ByteBuffer dst) {
+        Objects.checkFromIndexSize(offset, length, uuids.length);
+        int position = reserve(dst, length);
+        for (int i = 0; i < length; i++, position += RECORD_SIZE) {
+            write(dst, position, uuids[offset + i]);
+        }
+        dst.position(position);
+    }
+
+    /**
+     * 写入 count 个 UUID, 按 pairs[offset + 2i] = msb, pairs[offset + 2i + 1] = lsb 排列
+     */
+    public static void encode(long[] pairs, int offset, int count, ByteBuffer dst) {
+        Objects.checkFromIndexSize(offset, 2 * count, pairs.length);
+        int position = reserve(dst, count);
+        for (int i = offset, end = offset + 2 * count; i < end; i += 2, position += RECORD_SIZE) {
+            write(dst, position, pairs[i], pairs[i + 1]);
+        }
+        dst.position(position);
+    }
+
+    /**
+     * 读取 length 个 UUID 到 uuids[offset, offset + length)
+     *
+     * @throws BufferUnderflowException 剩余不足 16 * length 字节
+     */
+    public static void decode(ByteBuffer src, UUID[] uuids, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, uuids.length);
+        int position = available(src, length);
+        for (int i = 0; i < length; i++, position += RECORD_SIZE) {
+            uuids[offset + i] = read(src, position);
+        }
+        src.position(position);
+    }
+
+    public static void decode(ByteBuffer src, long[] pairs, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 2 * count, pairs.length);
+        int position = available(src, count);
+        for (int i = offset, end = offset + 2 * count; i < end; i += 2, position += RECORD_SIZE) {
+            pairs[i] = readMsb(src, position);
+            pairs[i + 1] = readLsb(src, position);
+        }
+        src.position(position);
+    }
+
+    /**
+     * 依次读取剩余的全部完整记录, 不创建 UUID 对象
+     */
+    public static void decode(ByteBuffer src, UUIDConsumer consumer) {
+        int position = src.position();
+        for (int end = position + (src.remaining() & -RECORD_SIZE); position < end; position += RECORD_SIZE) {
+            consumer.accept(readMsb(src, position), readLsb(src, position));
+        }
+        src.position(position);
+    }
+
+    private static int reserve(ByteBuffer dst, int count) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (dst.remaining() / RECORD_SIZE < count) {
+            throw new BufferOverflowException();
+        }
+        return dst.position();
+    }
+
+    private static int available(ByteBuffer src, int count) {
+        if (src.remaining() / RECORD_SIZE < count) {
+            throw new BufferUnderflowException();
+        }
+        return src.position();
+    }
+}
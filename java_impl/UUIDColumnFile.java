@@ -0,0 +1,226 @@
+package com.nyaa.common.util.random;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 内存映射的 UUID 列文件, 只读, 记录无需反序列化即可读取、扫描与 (已排序时) 二分查找
+ * 文件格式, 全部为大端序:
+ * - 0  ~ 7 : 魔数 "UUIDCOL\0"
+ * - 8  ~ 11: 格式版本, 当前为 1
+ * - 12 ~ 15: 标志位, bit 0 表示记录按 {@link UUID#compareTo} 升序排列
+ * - 16 ~ 23: 记录数
+ * - 24 ~ 31: 保留, 为 0
+ * - 32 起  : 记录, 每条 16 字节, 见 {@link UUIDBinaryCodec}
+ * 单个 MappedByteBuffer 最大 2 GiB, 因此记录区按 1 GiB 分段映射
+ */
+public class UUIDColumnFile implements AutoCloseable {
+    public static final long MAGIC = 0x55554944434F4C00L;
+    public static final int FORMAT_VERSION = 1;
+    public static final int FLAG_SORTED = 1;
+    public static final int HEADER_SIZE = 32;
+
+    private static final int REGION_SHIFT = 26;
+    private static final long REGION_RECORDS = 1L << REGION_SHIFT;
+    private static final int REGION_MASK = (int) REGION_RECORDS - 1;
+    private static final int WRITE_BUFFER_RECORDS = 4096;
+    private static final String BAD_HEADER = "Not a UUID column file: ";
+    private static final String BAD_VERSION = "Unsupported UUID column file version: ";
+    private static final String BAD_LENGTH = "Truncated UUID column file: ";
+    private static final String NOT_SORTED = "UUID column file is not sorted";
+
+    private final FileChannel channel;
+    private final long count;
+    private final int flags;
+    private final MappedByteBuffer[] regions;
+
+    private UUIDColumnFile(FileChannel channel, long count, int flags, MappedByteBuffer[] regions) {
+        this.channel = channel;
+        this.count = count;
+        this.flags = flags;
+        this.regions = regions;
+    }
+
+    public static UUIDColumnFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException(BAD_HEADER + path);
+                }
+            }
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException(BAD_HEADER + path);
+            }
+            int version = header.getInt(8);
+            if (version != FORMAT_VERSION) {
+                throw new IOException(BAD_VERSION + version);
+            }
+            int flags = header.getInt(12);
+            long count = header.getLong(16);
+            if (count < 0 || count > (channel.size() - HEADER_SIZE) / UUIDBinaryCodec.RECORD_SIZE) {
+                throw new IOException(BAD_LENGTH + path);
+            }
+
+            int regionCount = (int) ((count + REGION_RECORDS - 1) >>> REGION_SHIFT);
+            MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                long first = (long) i << REGION_SHIFT;
+                long records = Math.min(REGION_RECORDS, count - first);
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + first * UUIDBinaryCodec.RECORD_SIZE,
+                        records * UUIDBinaryCodec.RECORD_SIZE);
+            }
+            return new UUIDColumnFile(channel, count, flags, regions);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static void write(Path path, UUID[] uuids) throws IOException {
+        long[] pairs = new long[2 * uuids.length];
+        for (int i = 0; i < uuids.length; i++) {
+            pairs[2 * i] = uuids[i].getMostSignificantBits();
+            pairs[2 * i + 1] = uuids[i].getLeastSignificantBits();
+        }
+        write(path, pairs, 0, uuids.length);
+    }
+
+    /**
+     * 写入 count 个 UUID, 按 pairs[offset + 2i] = msb, pairs[offset + 2i + 1] = lsb 排列
+     * 是否已排序由写入的数据决定, 已存在的文件会被覆盖
+     */
+    public static void write(Path path, long[] pairs, int offset, int count) throws IOException {
+        Objects.checkFromIndexSize(offset, 2 * count, pairs.length);
+        boolean sorted = true;
+        for (int i = offset + 2; sorted && i < offset + 2 * count; i += 2) {
+            sorted = compare(pairs[i - 2], pairs[i - 1], pairs[i], pairs[i + 1]) <= 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_RECORDS * UUIDBinaryCodec.RECORD_SIZE);
+            buffer.putLong(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(sorted ? FLAG_SORTED : 0)
+                    .putLong(count)
+                    .putLong(0L)
+                    .flip();
+            writeFully(channel, buffer);
+
+            for (int written = 0; written < count; ) {
+                int batch = Math.min(WRITE_BUFFER_RECORDS, count - written);
+                buffer.clear();
+                UUIDBinaryCodec.encode(pairs, offset + 2 * written, batch, buffer);
+                buffer.flip();
+                writeFully(channel, buffer);
+                written += batch;
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public long size() {
+        return this.count;
+    }
+
+    public boolean isSorted() {
+        return (this.flags & FLAG_SORTED) != 0;
+    }
+
+    public UUID get(long index) {
+        return new UUID(this.getMostSignificantBits(index), this.getLeastSignificantBits(index));
+    }
+
+    public long getMostSignificantBits(long index) {
+        Objects.checkIndex(index, this.count);
+        return UUIDBinaryCodec.readMsb(this.regions[(int) (index >>> REGION_SHIFT)], offsetOf(index));
+    }
+
+    public long getLeastSignificantBits(long index) {
+        Objects.checkIndex(index, this.count);
+        return UUIDBinaryCodec.readLsb(this.regions[(int) (index >>> REGION_SHIFT)], offsetOf(index));
+    }
+
+    public void scan(UUIDConsumer consumer) {
+        this.scan(0, this.count, consumer);
+    }
+
+    /**
+     * 依次访问 [from, to) 的记录
+     */
+    public void scan(long from, long to, UUIDConsumer consumer) {
+        Objects.checkFromToIndex(from, to, this.count);
+        long index = from;
+        while (index < to) {
+            MappedByteBuffer region = this.regions[(int) (index >>> REGION_SHIFT)];
+            long regionEnd = Math.min(to, ((index >>> REGION_SHIFT) + 1) << REGION_SHIFT);
+            int end = offsetOf(regionEnd - 1) + UUIDBinaryCodec.RECORD_SIZE;
+            for (int offset = offsetOf(index); offset < end; offset += UUIDBinaryCodec.RECORD_SIZE) {
+                consumer.accept(UUIDBinaryCodec.readMsb(region, offset), UUIDBinaryCodec.readLsb(region, offset));
+            }
+            index = regionEnd;
+        }
+    }
+
+    public long binarySearch(UUID key) {
+        return this.binarySearch(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * 与 {@link java.util.Arrays#binarySearch(long[], long)} 约定相同:
+     * 找到时返回下标, 否则返回 -(插入点) - 1
+     *
+     * @throws IllegalStateException 文件未标记为已排序
+     */
+    public long binarySearch(long msb, long lsb) {
+        if (!this.isSorted()) {
+            throw new IllegalStateException(NOT_SORTED);
+        }
+        long low = 0;
+        long high = this.count - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            MappedByteBuffer region = this.regions[(int) (mid >>> REGION_SHIFT)];
+            int offset = offsetOf(mid);
+            int cmp = compare(UUIDBinaryCodec.readMsb(region, offset), UUIDBinaryCodec.readLsb(region, offset), msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * JDK 17 无法主动解除映射, 关闭后映射在缓冲区被回收时释放
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private static int offsetOf(long index) {
+        return ((int) index & REGION_MASK) * UUIDBinaryCodec.RECORD_SIZE;
+    }
+
+    private static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+        int cmp = Long.compareUnsigned(msb1, msb2);
+        return cmp != 0 ? cmp : Long.compareUnsigned(lsb1, lsb2);
+    }
+}
@@ -0,0 +1,13 @@
+package com.nyaa.common.util.random;
+
+/**
+ * 以两个 long 接收 UUID, 批量处理时不必为每条记录创建 {@link UUID} 对象
+ */
+@FunctionalInterface
+public interface UUIDConsumer {
+    /**
+     * @param msb 高 64 位 (字节 0 ~ 7, 大端序)
+     * @param lsb 低 64 位 (字节 8 ~ 15, 大端序)
+     */
+    void accept(long msb, long lsb);
+}
@@ -0,0 +1,268 @@
+package com.nyaa.common.util.random;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 预生成的 v4 UUID 池, 把随机数生成移出请求线程
+ * - 环形缓冲区只存 long (每个 UUID 占两个槽位), 不为条目创建对象
+ * - 单个补充线程用 {@link Random#nextLongs(long[], int, int)} 直接批量写入缓冲区, 写完后发布 tail
+ * - 取用方先读槽位再以一次 CAS 推进 head; 补充线程只覆盖 head 之前的槽位, 读到的值若被覆盖则 CAS 必然失败
+ * - 可用数量降到低水位时唤醒补充线程, 补到高水位; 池为空时在调用线程内生成
+ */
+public class UUIDPool implements AutoCloseable {
+    /**
+     * 每个 UUID 占两个 long, 容量再翻倍时槽位数组长度 2 * size 会超出 int 范围
+     */
+    public static final int MAX_CAPACITY = 1 << 29;
+    private static final String BAD_CAPACITY = "capacity must be in [1, " + MAX_CAPACITY + "]";
+    private static final String BAD_WATERMARK = "watermarks must satisfy 0 <= low < high <= capacity";
+    /**
+     * 补充线程未被唤醒时的轮询间隔
+     */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    /**
+     * 每批最多生成的 UUID 数, 批次之间发布 tail, 使消费方尽早可见
+     */
+    private static final int REFILL_BATCH = 256;
+
+    private final long[] slots;
+    private final int mask;
+    private final int lowWatermark;
+    private final int highWatermark;
+    /**
+     * 下一个待取的序号, 由取用方 CAS 推进
+     */
+    private final AtomicLong head = new AtomicLong();
+    /**
+     * 下一个待写的序号, 只由补充线程写入
+     */
+    private volatile long tail;
+    /**
+     * 可用数量降到低水位的时刻 (System.nanoTime), 0 表示没有待处理的补充请求
+     */
+    private volatile long requestedAt;
+    private volatile boolean closed;
+    private final Random random = new Random();
+    private final Thread refiller;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillLagNanos = new LongAdder();
+    private final LongAccumulator maxRefillLagNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 低水位为容量的 1/4, 高水位为容量
+     */
+    public UUIDPool(int capacity) {
+        this(capacity, tableSize(capacity) / 4, tableSize(capacity));
+    }
+
+    public UUIDPool(int capacity, int lowWatermark, int highWatermark) {
+        this(capacity, lowWatermark, highWatermark, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * @param capacity       向上取整为 2 的幂, 不超过 {@link #MAX_CAPACITY}
+     * @param lowWatermark   可用数量不高于此值时开始补充
+     * @param highWatermark  每次补充到此数量
+     * @param threadFactory  创建补充线程, JDK 21+ 可传入 {@code Thread.ofVirtual().factory()}; 非虚拟线程会被设为守护线程
+     */
+    public UUIDPool(int capacity, int lowWatermark, int highWatermark, ThreadFactory threadFactory) {
+        int size = tableSize(capacity);
+        if (lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > size) {
+            throw new IllegalArgumentException(BAD_WATERMARK);
+        }
+        this.slots = new long[2 * size];
+        this.mask = size - 1;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+
+        this.refill();
+        this.refiller = threadFactory.newThread(this::refillLoop);
+        if (!this.refiller.isDaemon()) {
+            try {
+                this.refiller.setDaemon(true);
+            } catch (IllegalArgumentException ignored) {
+                // 虚拟线程总是守护线程, 不允许修改
+            }
+        }
+        this.refiller.start();
+    }
+
+    /**
+     * 取一个 UUID, 池为空时在当前线程生成
+     */
+    public UUID take() {
+        long[] slots = this.slots;
+        while (true) {
+            long head = this.head.get();
+            long available = this.tail - head;
+            if (available <= 0) {
+                this.onMiss();
+                return UUID.createV4();
+            }
+            int index = ((int) head & this.mask) << 1;
+            long msb = slots[index];
+            long lsb = slots[index + 1];
+            if (this.head.compareAndSet(head, head + 1)) {
+                this.onHit(available - 1);
+                return new UUID(msb, lsb);
+            }
+        }
+    }
+
+    /**
+     * 取一个 UUID 写入 out[offset] = msb, out[offset + 1] = lsb, 命中时不创建对象
+     */
+    public void take(long[] out, int offset) {
+        long[] slots = this.slots;
+        while (true) {
+            long head = this.head.get();
+            long available = this.tail - head;
+            if (available <= 0) {
+                this.onMiss();
+                UUID uuid = UUID.createV4();
+                out[offset] = uuid.getMostSignificantBits();
+                out[offset + 1] = uuid.getLeastSignificantBits();
+                return;
+            }
+            int index = ((int) head & this.mask) << 1;
+            long msb = slots[index];
+            long lsb = slots[index + 1];
+            if (this.head.compareAndSet(head, head + 1)) {
+                out[offset] = msb;
+                out[offset + 1] = lsb;
+                this.onHit(available - 1);
+                return;
+            }
+        }
+    }
+
+    public int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * 当前可直接取用的数量, 并发下仅供参考
+     */
+    public int available() {
+        return (int) Math.max(0L, this.tail - this.head.get());
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * 命中率, 尚无取用时为 1
+     */
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long total = hits + this.misses.sum();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    public long getRefills() {
+        return this.refills.sum();
+    }
+
+    /**
+     * 从可用数量降到低水位到补充完成的平均耗时
+     */
+    public long getAverageRefillLagNanos() {
+        long refills = this.refills.sum();
+        return refills == 0 ? 0L : this.refillLagNanos.sum() / refills;
+    }
+
+    public long getMaxRefillLagNanos() {
+        return this.maxRefillLagNanos.get();
+    }
+
+    /**
+     * 停止补充线程, 池中剩余的 UUID 仍可取用
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.refiller);
+    }
+
+    private void onHit(long remaining) {
+        this.hits.increment();
+        // head 每次只前进 1, 恰好降到低水位的取用方只有一个
+        if (remaining == this.lowWatermark) {
+            this.requestRefill();
+        }
+    }
+
+    private void onMiss() {
+        this.misses.increment();
+        this.requestRefill();
+    }
+
+    private void requestRefill() {
+        if (this.requestedAt == 0L) {
+            this.requestedAt = System.nanoTime();
+        }
+        LockSupport.unpark(this.refiller);
+    }
+
+    private void refillLoop() {
+        while (!this.closed) {
+            if (this.tail - this.head.get() > this.lowWatermark) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+                continue;
+            }
+            long requestedAt = this.requestedAt;
+            this.refill();
+            if (requestedAt != 0L) {
+                this.requestedAt = 0L;
+                long lag = System.nanoTime() - requestedAt;
+                this.refillLagNanos.add(lag);
+                this.maxRefillLagNanos.accumulate(lag);
+            }
+            this.refills.increment();
+        }
+    }
+
+    /**
+     * 补到高水位; 目标基于读取时的 head, head 只增不减, 因此不会覆盖未取用的槽位
+     */
+    private void refill() {
+        long[] slots = this.slots;
+        long tail = this.tail;
+        long target = this.head.get() + this.highWatermark;
+        while (tail < target) {
+            int start = (int) tail & this.mask;
+            int count = (int) Math.min(Math.min(target - tail, this.capacity() - start), REFILL_BATCH);
+            this.random.nextLongs(slots, start << 1, count << 1);
+            for (int i = start << 1, end = (start + count) << 1; i < end; i += 2) {
+                slots[i] = (slots[i] & ~0xF000L) | 0x4000L;
+                slots[i + 1] = (slots[i + 1] & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            }
+            if (RandomMetrics.ENABLED) {
+                RandomMetrics.recordUUIDs(4, count);
+            }
+            tail += count;
+            this.tail = tail;
+        }
+    }
+
+    private static int tableSize(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(BAD_CAPACITY);
+        }
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
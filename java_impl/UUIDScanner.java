@@ -0,0 +1,261 @@
+package com.nyaa.common.util.random;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * 从文本文件中提取标准格式 (8-4-4-4-12, 大小写均可) 的 UUID
+ * - 文件按 chunkSize 分段并行处理, 每段单独映射, 并向后多映射 36 字节 (向前 1 字节), 跨段的 UUID 由起点所在的段负责
+ * - 先找连字符: 位置 8 / 13 / 18 / 23 同时为 '-' 的候选很少, 再用 {@link DataCast#hexValue(int)} 校验并解码其余 32 位
+ * - 找连字符优先使用 Vector API ({@link UUIDScannerVector}), 不可用时按 8 字节一组的 SWAR 方式
+ * - 与正则的 \b 相同, UUID 前后紧邻字母、数字或 '_' 时不算匹配
+ * 结果以 (msb, lsb) 交给 {@link UUIDConsumer}, 不创建 UUID 对象
+ */
+public class UUIDScanner {
+    /**
+     * 设为 false 时强制使用标量实现
+     */
+    public static final String VECTOR_PROPERTY = UUIDScanner.class.getName() + ".vector";
+    private static final boolean VECTORIZED = Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private static final int UUID_LENGTH = 36;
+    private static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+    /**
+     * 分段内每次复制到线程缓冲区的字节数
+     */
+    private static final int BLOCK_SIZE = 64 << 10;
+    private static final long HYPHENS = 0x2D2D2D2D2D2D2D2DL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final String BAD_CHUNK_SIZE = "chunk size must be between 64 KiB and 1 GiB";
+
+    private static final ThreadLocal<byte[]> BLOCKS = ThreadLocal.withInitial(() -> new byte[BLOCK_SIZE + UUID_LENGTH + 1]);
+
+    private final int chunkSize;
+
+    public UUIDScanner() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public UUIDScanner(int chunkSize) {
+        if (chunkSize < BLOCK_SIZE || chunkSize > (1 << 30)) {
+            throw new IllegalArgumentException(BAD_CHUNK_SIZE);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * 并行扫描整个文件, consumer 会被多个线程同时调用, 段之间的顺序不确定
+     *
+     * @return 找到的 UUID 数
+     */
+    public long scan(Path path, UUIDConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) ((size + this.chunkSize - 1) / this.chunkSize);
+            LongAdder count = new LongAdder();
+            try {
+                IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                    long start = (long) chunk * this.chunkSize;
+                    long end = Math.min(size, start + this.chunkSize);
+                    count.add(this.scanChunk(channel, size, start, end, consumer));
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return count.sum();
+        }
+    }
+
+    /**
+     * 按文件中的顺序返回全部 UUID, 排列为 pairs[2i] = msb, pairs[2i + 1] = lsb
+     */
+    public long[] collect(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) ((size + this.chunkSize - 1) / this.chunkSize);
+            PairBuffer[] results = new PairBuffer[chunks];
+            try {
+                IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                    long start = (long) chunk * this.chunkSize;
+                    long end = Math.min(size, start + this.chunkSize);
+                    PairBuffer buffer = new PairBuffer();
+                    this.scanChunk(channel, size, start, end, buffer);
+                    results[chunk] = buffer;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            int total = 0;
+            for (PairBuffer result : results) {
+                total = Math.addExact(total, result.size);
+            }
+            long[] pairs = new long[total];
+            int position = 0;
+            for (PairBuffer result : results) {
+                System.arraycopy(result.pairs, 0, pairs, position, result.size);
+                position += result.size;
+            }
+            return pairs;
+        }
+    }
+
+    /**
+     * 在当前线程中按顺序扫描 buffer 的 position 到 limit, 不改变 position
+     *
+     * @return 找到的 UUID 数
+     */
+    public static long scan(ByteBuffer buffer, UUIDConsumer consumer) {
+        return scanRange(buffer, buffer.position(), buffer.position(), buffer.limit(), buffer.limit(), consumer);
+    }
+
+    private long scanChunk(FileChannel channel, long size, long start, long end, UUIDConsumer consumer) {
+        // 多映射前 1 字节用于边界检查, 后 36 字节用于跨段的 UUID 与边界检查
+        long mapStart = Math.max(0L, start - 1);
+        long mapEnd = Math.min(size, end + UUID_LENGTH);
+        MappedByteBuffer mapped;
+        try {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int base = (int) (start - mapStart);
+        return scanRange(mapped, 0, base, base + (int) (end - start), mapped.limit(), consumer);
+    }
+
+    /**
+     * 找出起点在 [from, to) 的 UUID, 只读取 [lower, upper)
+     */
+    private static long scanRange(ByteBuffer buffer, int lower, int from, int to, int upper, UUIDConsumer consumer) {
+        byte[] block = BLOCKS.get();
+        long count = 0;
+        for (int blockStart = from; blockStart < to; blockStart += BLOCK_SIZE) {
+            int blockEnd = Math.min(to, blockStart + BLOCK_SIZE);
+            int readStart = Math.max(lower, blockStart - 1);
+            int readEnd = Math.min(upper, blockEnd + UUID_LENGTH);
+            int length = readEnd - readStart;
+            buffer.get(readStart, block, 0, length);
+            count += scanBlock(block, length, blockStart - readStart, blockEnd - readStart, consumer);
+        }
+        return count;
+    }
+
+    /**
+     * 找出起点在 block[from, to) 的 UUID, 有效数据为 block[0, length)
+     * 起点为 0 时只可能是数据的开头, 否则 block 会包含起点前的 1 字节
+     */
+    private static long scanBlock(byte[] block, int length, int from, int to, UUIDConsumer consumer) {
+        // 连字符 h 对应起点 h - 8, 需要 h + 28 <= length
+        int limit = Math.min(to + 8, length - 27);
+        long count = 0;
+        int h = from + 8;
+        while (h < limit) {
+            h = VECTORIZED ? UUIDScannerVector.findHyphens(block, h, limit) : findHyphensSwar(block, h, limit);
+            if (h < 0) {
+                break;
+            }
+            int start = h - 8;
+            int end = start + UUID_LENGTH;
+            int g0 = hex4(block, start);
+            int g1 = hex4(block, start + 4);
+            int g2 = hex4(block, start + 9);
+            int g3 = hex4(block, start + 14);
+            int g4 = hex4(block, start + 19);
+            int g5 = hex4(block, start + 24);
+            int g6 = hex4(block, start + 28);
+            int g7 = hex4(block, start + 32);
+            boolean valid = (g0 | g1 | g2 | g3 | g4 | g5 | g6 | g7) >= 0
+                    && (start == 0 || !isWordChar(block[start - 1]))
+                    && (end == length || !isWordChar(block[end]));
+            if (valid) {
+                consumer.accept(((long) g0 << 48) | ((long) g1 << 32) | ((long) g2 << 16) | g3,
+                        ((long) g4 << 48) | ((long) g5 << 32) | ((long) g6 << 16) | g7);
+                count++;
+                h += UUID_LENGTH;
+            } else {
+                h++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 在 [from, limit) 中找第一个满足 h, h + 5, h + 10, h + 15 处均为 '-' 的位置, 没有时返回 -1
+     * 调用方保证 limit + 15 <= bytes.length
+     * 每次检查 8 个位置: 四个偏移处的 8 字节分别与 '-' 异或后取或, 某字节为 0 即为候选;
+     * 求零字节的位运算在最低的零字节之上可能误报, 因此只取最低位
+     */
+    static int findHyphensSwar(byte[] bytes, int from, int limit) {
+        int i = from;
+        for (int wordLimit = Math.min(limit, bytes.length - 22); i < wordLimit; i += 8) {
+            long x = ((long) LONG_VIEW.get(bytes, i) ^ HYPHENS)
+                    | ((long) LONG_VIEW.get(bytes, i + 5) ^ HYPHENS)
+                    | ((long) LONG_VIEW.get(bytes, i + 10) ^ HYPHENS)
+                    | ((long) LONG_VIEW.get(bytes, i + 15) ^ HYPHENS);
+            long zero = (x - LOW_BITS) & ~x & HIGH_BITS;
+            if (zero != 0) {
+                int found = i + (Long.numberOfTrailingZeros(zero) >>> 3);
+                return found < limit ? found : -1;
+            }
+        }
+        return findHyphensScalar(bytes, i, limit);
+    }
+
+    static int findHyphensScalar(byte[] bytes, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (bytes[i] == '-' && bytes[i + 5] == '-' && bytes[i + 10] == '-' && bytes[i + 15] == '-') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 4 个十六进制字符的值, 含非十六进制字符时为负数
+     */
+    private static int hex4(byte[] bytes, int index) {
+        return (DataCast.hexValue(bytes[index] & 0xFF) << 12)
+                | (DataCast.hexValue(bytes[index + 1] & 0xFF) << 8)
+                | (DataCast.hexValue(bytes[index + 2] & 0xFF) << 4)
+                | DataCast.hexValue(bytes[index + 3] & 0xFF);
+    }
+
+    private static boolean isWordChar(byte b) {
+        return (b >= '0' && b <= '9') || (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z') || b == '_';
+    }
+
+    /**
+     * 逐段收集结果, 每段由一个线程写入
+     */
+    private static class PairBuffer implements UUIDConsumer {
+        private long[] pairs = new long[64];
+        private int size;
+
+        @Override
+        public void accept(long msb, long lsb) {
+            if (this.size == this.pairs.length) {
+                this.pairs = Arrays.copyOf(this.pairs, 2 * this.pairs.length);
+            }
+            this.pairs[this.size++] = msb;
+            this.pairs[this.size++] = lsb;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.nyaa.common.util.random;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link UUIDScanner} 的 Vector API 实现, 单独成类, 未加载 jdk.incubator.vector 模块时不会被解析
+ * 编译与运行都需要 {@code --add-modules jdk.incubator.vector}
+ */
+final class UUIDScannerVector {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final byte HYPHEN = '-';
+
+    private UUIDScannerVector() {
+    }
+
+    /**
+     * 见 {@link UUIDScanner#findHyphensSwar(byte[], int, int)}
+     * 每次比较一整个向量宽度的位置, 四个偏移处同时为 '-' 才置位
+     */
+    static int findHyphens(byte[] bytes, int from, int limit) {
+        int i = from;
+        // 读取 [i, i + length + 15), 不越过数组末尾
+        int vectorLimit = Math.min(limit, bytes.length - 15 - SPECIES.length() + 1);
+        for (; i < vectorLimit; i += SPECIES.length()) {
+            VectorMask<Byte> mask = ByteVector.fromArray(SPECIES, bytes, i).eq(HYPHEN)
+                    .and(ByteVector.fromArray(SPECIES, bytes, i + 5).eq(HYPHEN))
+                    .and(ByteVector.fromArray(SPECIES, bytes, i + 10).eq(HYPHEN))
+                    .and(ByteVector.fromArray(SPECIES, bytes, i + 15).eq(HYPHEN));
+            if (mask.anyTrue()) {
+                int found = i + mask.firstTrue();
+                return found < limit ? found : -1;
+            }
+        }
+        return UUIDScanner.findHyphensScalar(bytes, i, limit);
+    }
+}
@@ -0,0 +1,260 @@
+package com.nyaa.common.util.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * UUID 的紧凑文本编码, 均为定长 ASCII, 查表编解码, 写入调用方提供的数组时不分配内存
+ * - {@link #BASE64URL}: 22 字符, RFC 4648 URL 安全字母表, 与 {@code Base64.getUrlEncoder().withoutPadding()} 对 16 字节的结果相同
+ * - {@link #CROCKFORD_BASE32}: 26 字符, 首字符只用 3 位 (0 ~ 7); 字母表按 ASCII 升序, 字符串顺序与 {@link UUID#compareTo(UUID)} 一致, 适合 v6 / v7
+ * - {@link #BASE62}: 22 字符, 字母表为 0-9A-Za-z, 同样按 ASCII 升序, 不足 22 位时高位补 '0'
+ * 解码是严格的: 长度必须相等, 只接受字母表内的字符 (Crockford base32 不区分大小写, 但不接受 I / L / O 等别名与连字符),
+ * 超出 128 位或末尾填充位不为 0 的输入均视为错误, 因此每个 UUID 只有唯一的合法文本
+ */
+public enum UUIDTextCodec {
+    BASE64URL(22, 6, 4, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"),
+    CROCKFORD_BASE32(26, 5, 0, "0123456789ABCDEFGHJKMNPQRSTVWXYZ"),
+    BASE62(22, 0, 0, "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+
+    private static final String BAD_TEXT = "Invalid %s UUID: %s";
+    private static final long LIMB_MASK = 0xFFFFFFFFL;
+    /**
+     * 62^5, 小于 2^30, 余数左移 32 位后仍在 long 范围内
+     */
+    private static final int BASE62_CHUNK = 62 * 62 * 62 * 62 * 62;
+
+    private final int length;
+    /**
+     * 每个字符的位数, base62 为 0
+     */
+    private final int bits;
+    /**
+     * 最后一个字符中不属于 UUID 的低位数
+     */
+    private final int padding;
+    private final byte[] alphabet;
+    /**
+     * ASCII 解码表, 非法字符为 -1
+     */
+    private final byte[] values = new byte[256];
+
+    UUIDTextCodec(int length, int bits, int padding, String alphabet) {
+        this.length = length;
+        this.bits = bits;
+        this.padding = padding;
+        this.alphabet = alphabet.getBytes(StandardCharsets.US_ASCII);
+        Arrays.fill(this.values, (byte) -1);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            this.values[this.alphabet[i]] = (byte) i;
+            if (bits == 5) {
+                this.values[Character.toLowerCase(this.alphabet[i])] = (byte) i;
+            }
+        }
+    }
+
+    /**
+     * 编码后的字符数
+     */
+    public int length() {
+        return this.length;
+    }
+
+    public String encode(UUID uuid) {
+        return this.encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public String encode(long msb, long lsb) {
+        byte[] chars = new byte[this.length];
+        this.writeTo(msb, lsb, chars, 0);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 将 {@link #length()} 个 ASCII 字符写入 dst[offset] 起始处
+     */
+    public void writeTo(UUID uuid, byte[] dst, int offset) {
+        this.writeTo(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), dst, offset);
+    }
+
+    public void writeTo(long msb, long lsb, byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, this.length, dst.length);
+        if (this.bits == 0) {
+            this.writeBase62(msb, lsb, dst, offset);
+            return;
+        }
+        // 从最后一个字符向前, 每次取 128 位数的低 bits 位后整体右移; 最后一个字符只含 bits - padding 位
+        byte[] alphabet = this.alphabet;
+        int mask = (1 << this.bits) - 1;
+        int last = offset + this.length - 1;
+        dst[last] = alphabet[(int) (lsb << this.padding) & mask];
+        int width = this.bits - this.padding;
+        long low = (lsb >>> width) | (msb << (64 - width));
+        long high = msb >>> width;
+        for (int i = last - 1; i >= offset; i--) {
+            dst[i] = alphabet[(int) low & mask];
+            low = (low >>> this.bits) | (high << (64 - this.bits));
+            high >>>= this.bits;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 长度错误, 含非法字符或超出 128 位
+     */
+    public UUID decode(CharSequence text) {
+        UUID uuid = this.tryDecode(text);
+        if (uuid == null) {
+            throw new IllegalArgumentException(String.format(BAD_TEXT, this, text));
+        }
+        return uuid;
+    }
+
+    /**
+     * 与 {@link #decode(CharSequence)} 相同, 格式错误时返回 null 而不抛出异常
+     */
+    public UUID tryDecode(CharSequence text) {
+        if (text.length() != this.length) {
+            return null;
+        }
+        long[] pair = new long[2];
+        return this.decodeDigits(text, null, 0, pair, 0) ? new UUID(pair[0], pair[1]) : null;
+    }
+
+    /**
+     * 解码 ASCII 字节数组中 [offset, offset + length) 的内容
+     *
+     * @throws IllegalArgumentException 长度错误, 含非法字符或超出 128 位
+     */
+    public UUID decode(byte[] ascii, int offset, int length) {
+        UUID uuid = this.tryDecode(ascii, offset, length);
+        if (uuid == null) {
+            throw new IllegalArgumentException(String.format(BAD_TEXT, this,
+                    new String(ascii, offset, length, StandardCharsets.ISO_8859_1)));
+        }
+        return uuid;
+    }
+
+    public UUID tryDecode(byte[] ascii, int offset, int length) {
+        long[] pair = new long[2];
+        return this.tryDecode(ascii, offset, length, pair, 0) ? new UUID(pair[0], pair[1]) : null;
+    }
+
+    /**
+     * 不创建对象的解码, 成功时写入 out[index] = msb, out[index + 1] = lsb
+     *
+     * @return 格式错误时返回 false, out 不变
+     */
+    public boolean tryDecode(byte[] ascii, int offset, int length, long[] out, int index) {
+        Objects.checkFromIndexSize(offset, length, ascii.length);
+        Objects.checkFromIndexSize(index, 2, out.length);
+        if (length != this.length) {
+            return false;
+        }
+        return this.decodeDigits(null, ascii, offset, out, index);
+    }
+
+    /**
+     * text 与 ascii 二选一
+     */
+    private boolean decodeDigits(CharSequence text, byte[] ascii, int offset, long[] out, int index) {
+        return this.bits == 0
+                ? this.decodeBase62(text, ascii, offset, out, index)
+                : this.decodeBits(text, ascii, offset, out, index);
+    }
+
+    private boolean decodeBits(CharSequence text, byte[] ascii, int offset, long[] out, int index) {
+        long msb = 0L;
+        long lsb = 0L;
+        int last = this.length - 1;
+        for (int i = 0; i < last; i++) {
+            int value = this.valueAt(text, ascii, offset + i);
+            // 移出 msb 的高位必须为 0
+            if (value < 0 || (msb >>> (64 - this.bits)) != 0) {
+                return false;
+            }
+            msb = (msb << this.bits) | (lsb >>> (64 - this.bits));
+            lsb = (lsb << this.bits) | value;
+        }
+        int value = this.valueAt(text, ascii, offset + last);
+        int width = this.bits - this.padding;
+        if (value < 0 || (value & ((1 << this.padding) - 1)) != 0 || (msb >>> (64 - width)) != 0) {
+            return false;
+        }
+        out[index] = (msb << width) | (lsb >>> (64 - width));
+        out[index + 1] = (lsb << width) | (value >>> this.padding);
+        return true;
+    }
+
+    /**
+     * 以 4 个 32 位分段表示 128 位数, 每次除以 62^5 得到 5 个字符; 62^20 之上剩余的值小于 62^2
+     */
+    private void writeBase62(long msb, long lsb, byte[] dst, int offset) {
+        byte[] alphabet = this.alphabet;
+        long a0 = msb >>> 32;
+        long a1 = msb & LIMB_MASK;
+        long a2 = lsb >>> 32;
+        long a3 = lsb & LIMB_MASK;
+        for (int end = offset + this.length; end > offset + 2; end -= 5) {
+            long x = a0;
+            a0 = x / BASE62_CHUNK;
+            x = ((x - a0 * BASE62_CHUNK) << 32) | a1;
+            a1 = x / BASE62_CHUNK;
+            x = ((x - a1 * BASE62_CHUNK) << 32) | a2;
+            a2 = x / BASE62_CHUNK;
+            x = ((x - a2 * BASE62_CHUNK) << 32) | a3;
+            a3 = x / BASE62_CHUNK;
+            int chunk = (int) (x - a3 * BASE62_CHUNK);
+            for (int i = end - 1; i >= end - 5; i--) {
+                int q = chunk / 62;
+                dst[i] = alphabet[chunk - q * 62];
+                chunk = q;
+            }
+        }
+        dst[offset] = alphabet[(int) a3 / 62];
+        dst[offset + 1] = alphabet[(int) a3 % 62];
+    }
+
+    /**
+     * 与 {@link #writeBase62} 相反: 先读入前 2 个字符, 之后每 5 个字符乘 62^5 累加, 最高分段溢出即超出 128 位
+     */
+    private boolean decodeBase62(CharSequence text, byte[] ascii, int offset, long[] out, int index) {
+        int d0 = this.valueAt(text, ascii, offset);
+        int d1 = this.valueAt(text, ascii, offset + 1);
+        if ((d0 | d1) < 0) {
+            return false;
+        }
+        long a0 = 0L;
+        long a1 = 0L;
+        long a2 = 0L;
+        long a3 = d0 * 62L + d1;
+        for (int start = offset + 2, end = offset + this.length; start < end; start += 5) {
+            long chunk = 0L;
+            for (int i = start; i < start + 5; i++) {
+                int value = this.valueAt(text, ascii, i);
+                if (value < 0) {
+                    return false;
+                }
+                chunk = chunk * 62 + value;
+            }
+            long x = a3 * BASE62_CHUNK + chunk;
+            a3 = x & LIMB_MASK;
+            x = a2 * BASE62_CHUNK + (x >>> 32);
+            a2 = x & LIMB_MASK;
+            x = a1 * BASE62_CHUNK + (x >>> 32);
+            a1 = x & LIMB_MASK;
+            x = a0 * BASE62_CHUNK + (x >>> 32);
+            a0 = x & LIMB_MASK;
+            if ((x >>> 32) != 0) {
+                return false;
+            }
+        }
+        out[index] = (a0 << 32) | a1;
+        out[index + 1] = (a2 << 32) | a3;
+        return true;
+    }
+
+    private int valueAt(CharSequence text, byte[] ascii, int index) {
+        int c = text != null ? text.charAt(index) : ascii[index] & 0xFF;
+        return c < 256 ? this.values[c] : -1;
+    }
+}
@@ -0,0 +1,120 @@
+package com.nyaa.common.util.random;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * 单调递增的 UUIDv7 生成器, RFC 9562 6.2 节 Method 1: rand_a 的 12 位作为计数器
+ * 时间戳与计数器合并为一个 60 位序号 (unix_ts_ms << 12 | counter), 以一次 CAS 分配, 无锁:
+ * - 进入新的毫秒时, 计数器从随机值开始 (最高位为 0, 至少留出 2048 个余量)
+ * - 同一毫秒内计数器加 1, 溢出时进位到时间戳, 相当于提前借用下一毫秒
+ * - 时钟回拨时沿用上一次的序号继续递增, 保证同一生成器的结果严格递增
+ * rand_b 的 62 位取自线程安全的随机数生成器
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9562#section-6.2">RFC 9562 Monotonicity and Counters</a>
+ */
+public class UUIDv7Generator {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    /**
+     * 新毫秒的计数器初值范围
+     */
+    private static final int SEED_MASK = (1 << (COUNTER_BITS - 1)) - 1;
+
+    private final RandomGenerator random;
+    private final LongSupplier clock;
+    /**
+     * 已分配的最后一个序号
+     */
+    private final AtomicLong last = new AtomicLong();
+    /**
+     * 最近一次观察到的时钟, 仅在开启 {@link RandomMetrics} 时维护, 用于识别时钟回拨
+     */
+    private final AtomicLong lastClock = new AtomicLong(Long.MIN_VALUE);
+
+    public UUIDv7Generator() {
+        this(new ConcurrentRandom(), System::currentTimeMillis);
+    }
+
+    /**
+     * @param random 必须是线程安全的, 例如 {@link ConcurrentRandom}
+     * @param clock  毫秒级 Unix 时间戳
+     */
+    public UUIDv7Generator(RandomGenerator random, LongSupplier clock) {
+        this.random = Objects.requireNonNull(random);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public UUID generate() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(7, 1);
+        }
+        long sequence = this.reserve(1);
+        return new UUID(toMsb(sequence), toLsb(this.random.nextLong()));
+    }
+
+    /**
+     * 批量生成 n 个连续的 UUID, 只需一次 CAS
+     * 结果按 out[2i] = msb, out[2i + 1] = lsb 依次写入, out 的长度至少为 2n
+     */
+    public void generate(int n, long[] out) {
+        if (n < 0) {
+            throw new IllegalArgumentException(RandomSupport.BAD_SIZE);
+        }
+        Objects.checkFromIndexSize(0, 2 * n, out.length);
+        if (n == 0) {
+            return;
+        }
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordUUIDs(7, n);
+        }
+        long sequence = this.reserve(n);
+        for (int i = 0; i < n; i++) {
+            out[2 * i] = toMsb(sequence + i);
+            out[2 * i + 1] = toLsb(this.random.nextLong());
+        }
+    }
+
+    /**
+     * 分配 n 个连续序号, 返回第一个
+     */
+    private long reserve(int n) {
+        while (true) {
+            long previous = this.last.get();
+            long now = this.clock.getAsLong();
+            if (RandomMetrics.ENABLED) {
+                this.observeClock(now);
+            }
+            long base = now << COUNTER_BITS;
+            long first = base > previous
+                    ? base | (this.random.nextInt() & SEED_MASK)
+                    : previous + 1;
+            if (this.last.compareAndSet(previous, first + n - 1)) {
+                return first;
+            }
+        }
+    }
+
+    /**
+     * 时钟比上一次观察到的值小时记录一次回拨; 只与时钟本身比较, 计数器进位借用的毫秒不算回拨
+     * 回拨后 lastClock 随之降低, 同一次回拨在追上之前不会重复记录
+     */
+    private void observeClock(long now) {
+        long previous = this.lastClock.get();
+        if (now != previous && this.lastClock.compareAndSet(previous, now) && now < previous) {
+            RandomMetrics.recordV7ClockRegression(previous, now);
+        }
+    }
+
+    private static long toMsb(long sequence) {
+        // unix_ts_ms (48) | ver (4) | rand_a (12)
+        return ((sequence >>> COUNTER_BITS) << 16) | 0x7000L | (sequence & COUNTER_MASK);
+    }
+
+    private static long toLsb(long randomBits) {
+        // var (2) | rand_b (62)
+        return (randomBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+}
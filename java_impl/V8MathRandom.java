@@ -0,0 +1,100 @@
+package com.nyaa.common.util.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * V8 引擎 Math.random() 的逐位复现
+ * 与 V8 相同: 种子经 MurmurHash3 得到 state0 = h(seed), state1 = h(~seed), 每次批量生成 64 个 double 放入缓存,
+ * 再从缓存末尾向前取用; double 取 state0 的高 52 位作为尾数
+ * 给定种子时, 连续调用 {@link #nextDouble()} 的结果与 {@code node --random_seed=<seed>} 中 Math.random() 的序列一致
+ * 注意: 非密码安全, 非线程安全
+ *
+ * @see <a href="https://chromium.googlesource.com/v8/v8/+/refs/heads/master/src/numbers/math-random.cc">math-random.cc</a>
+ */
+public class V8MathRandom implements RandomGenerator, java.io.Serializable {
+    private static final long serialVersionUID = 1L;
+    /**
+     * MathRandom::kCacheSize
+     */
+    private static final int CACHE_SIZE = 64;
+    private final double[] cache = new double[CACHE_SIZE];
+    /**
+     * 缓存中剩余可用的数量, 为 0 时重新填充
+     */
+    private int index;
+    private long state0;
+    private long state1;
+
+    public V8MathRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    public V8MathRandom(long seed) {
+        this.state0 = Random.murmurHash3(seed);
+        this.state1 = Random.murmurHash3(~seed);
+        if (this.state0 == 0L && this.state1 == 0L) {
+            throw new IllegalStateException("State cannot be zero.");
+        }
+    }
+
+    @Override
+    public boolean isDeprecated() {
+        return false;
+    }
+
+    /**
+     * MathRandom::RefillCache, 状态保存在局部变量中, 一次生成 64 个
+     */
+    private void refill() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(CACHE_SIZE);
+        }
+        long s0 = this.state0;
+        long s1 = this.state1;
+        double[] cache = this.cache;
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            long t = s0;
+            s0 = s1;
+            t ^= t << 23;
+            t ^= t >>> 17;
+            t ^= s1;
+            t ^= s1 >>> 26;
+            s1 = t;
+            cache[i] = toDouble(s0);
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+        this.index = CACHE_SIZE;
+    }
+
+    /**
+     * RandomNumberGenerator::ToDouble, 取高 52 位作为 [1.0, 2.0) 的尾数
+     */
+    private static double toDouble(long state0) {
+        long kExponentBits = 0x3FF0000000000000L;
+        long random = (state0 >>> 12) | kExponentBits;
+        return Double.longBitsToDouble(random) - 1.0;
+    }
+
+    /**
+     * 等价于一次 Math.random()
+     */
+    @Override
+    public double nextDouble() {
+        if (this.index == 0) {
+            this.refill();
+        }
+        return this.cache[--this.index];
+    }
+
+    /**
+     * 由两次 {@link #nextDouble()} 的 52 位尾数拼接而成, 与 Math.random() 共用同一序列
+     */
+    @Override
+    public long nextLong() {
+        long high = Double.doubleToRawLongBits(this.nextDouble() + 1.0);
+        long low = Double.doubleToRawLongBits(this.nextDouble() + 1.0);
+        return (high << 12) ^ (low & 0xFFFFFFFFFFFFFL);
+    }
+}
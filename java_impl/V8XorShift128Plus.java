@@ -0,0 +1,78 @@
+package com.nyaa.common.util.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * V8 的 xorshift128+ (23, 17, 26) 加 MurmurHash3 后处理, 作为 {@link RandomEngine} 的一员
+ * 种子处理与输出序列和 {@link Random} 完全相同, 可以互相替换; 需要状态快照, 序列化或可并行的流时使用 {@link Random}
+ * 注意: 非密码安全, 非线程安全
+ */
+public class V8XorShift128Plus extends RandomEngine implements RandomGenerator.LeapableGenerator {
+    /**
+     * 状态推进与输出全部交给 {@link Random}, 两者的序列不会出现分歧
+     */
+    private final Random random;
+
+    public V8XorShift128Plus() {
+        this(Random.getDefaultSeed());
+    }
+
+    public V8XorShift128Plus(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 从 random 的当前状态开始, 之后两者互不影响
+     */
+    public V8XorShift128Plus(Random random) {
+        this.random = random.copy();
+    }
+
+    @Override
+    public V8XorShift128Plus copy() {
+        return new V8XorShift128Plus(this.random);
+    }
+
+    /**
+     * 以当前状态创建 {@link Random}, 两者此后产生相同的序列
+     */
+    public Random toRandom() {
+        return this.random.copy();
+    }
+
+    @Override
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    @Override
+    public void nextLongs(long[] values, int offset, int length) {
+        this.random.nextLongs(values, offset, length);
+    }
+
+    /**
+     * 前进 2^64 步, 见 {@link Random#jump()}
+     */
+    @Override
+    public void jump() {
+        this.random.jump();
+    }
+
+    @Override
+    public double jumpDistance() {
+        return 0x1.0p64;
+    }
+
+    /**
+     * 前进 2^96 步, 见 {@link Random#leap()}
+     */
+    @Override
+    public void leap() {
+        this.random.leap();
+    }
+
+    @Override
+    public double leapDistance() {
+        return 0x1.0p96;
+    }
+}
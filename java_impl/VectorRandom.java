@@ -0,0 +1,294 @@
+package com.nyaa.common.util.random;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 多通道的 V8 xorshift128+ 生成器, 用于批量生成
+ * 8 个通道各自运行一个 {@link Random} 子序列, 通道 k 的起点为 {@code new Random(seed)} jump k 次 (每次 2^64 步),
+ * 输出按步交错: 第 i 个 long 为通道 (i % 8) 的第 (i / 8) 个 {@link Random#nextLong()}
+ * 加载了 jdk.incubator.vector 模块时以 LongVector 同步推进各通道, 否则逐通道计算, 两者输出完全相同,
+ * 与硬件的向量宽度无关; 逐个调用与批量填充的序列也相同
+ * 注意: 非密码安全, 非线程安全
+ */
+public class VectorRandom implements RandomGenerator {
+    public static final int LANES = 8;
+    /**
+     * 设为 false 时强制使用标量实现
+     */
+    public static final String VECTOR_PROPERTY = VectorRandom.class.getName() + ".vector";
+    private static final boolean VECTORIZED = Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorRandomKernel.isSupported();
+
+    private static final ByteOrder BYTE_ORDER = ByteOrder.BIG_ENDIAN;
+    private static final VarHandle BYTE_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, BYTE_ORDER);
+    private static final VarHandle BYTE_BUFFER_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
+    /**
+     * 转换为 double / float / byte 时每批生成的 long 数, 为 LANES 的倍数
+     */
+    private static final int SCRATCH_SIZE = 64 * LANES;
+
+    private final long[] state0 = new long[LANES];
+    private final long[] state1 = new long[LANES];
+    /**
+     * 最近一步的输出, 供逐个调用; index 为下一个未读取的位置
+     */
+    private final long[] pending = new long[LANES];
+    private int index = LANES;
+    private long[] scratch;
+
+    public VectorRandom() {
+        this(new Random());
+    }
+
+    public VectorRandom(long seed) {
+        this(new Random(seed));
+    }
+
+    private VectorRandom(Random root) {
+        for (int lane = 0; lane < LANES; lane++) {
+            long[] state = root.getState();
+            this.state0[lane] = state[0];
+            this.state1[lane] = state[1];
+            root.jump();
+        }
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return this.nextLong() < 0;
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) this.nextLong();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        RandomSupport.checkBound(bound);
+        return RandomSupport.boundedNextInt(this, bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        RandomSupport.checkRange(origin, bound);
+        return RandomSupport.boundedNextInt(this, origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        if (this.index == LANES) {
+            fill(this.state0, this.state1, this.pending, 0, 1);
+            this.index = 0;
+        }
+        return this.pending[this.index++];
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        RandomSupport.checkBound(bound);
+        return RandomSupport.boundedNextLong(this, bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        RandomSupport.checkRange(origin, bound);
+        return RandomSupport.boundedNextLong(this, origin, bound);
+    }
+
+    @Override
+    public float nextFloat() {
+        return DataCast.toLimitedFloat(this.nextLong());
+    }
+
+    @Override
+    public double nextDouble() {
+        return DataCast.toLimitedDouble(this.nextLong());
+    }
+
+    public void nextLongs(long[] values) {
+        this.nextLongs(values, 0, values.length);
+    }
+
+    /**
+     * 批量填充, 与逐个调用 {@link #nextLong()} 的序列一致
+     * 先取完上一步剩余的输出, 整步直接写入 values, 不足一步的部分经 pending 中转
+     */
+    public void nextLongs(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        int i = offset;
+        int end = offset + length;
+        while (this.index < LANES && i < end) {
+            values[i++] = this.pending[this.index++];
+        }
+        int steps = (end - i) / LANES;
+        if (steps > 0) {
+            fill(this.state0, this.state1, values, i, steps);
+            i += steps * LANES;
+        }
+        while (i < end) {
+            values[i++] = this.nextLong();
+        }
+    }
+
+    public void nextInts(int[] values) {
+        this.nextInts(values, 0, values.length);
+    }
+
+    public void nextInts(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] scratch = this.scratch();
+        for (int i = offset, end = offset + length; i < end; ) {
+            int count = Math.min(SCRATCH_SIZE, end - i);
+            this.nextLongs(scratch, 0, count);
+            for (int k = 0; k < count; k++) {
+                values[i++] = (int) scratch[k];
+            }
+        }
+    }
+
+    public void nextDoubles(double[] values) {
+        this.nextDoubles(values, 0, values.length);
+    }
+
+    public void nextDoubles(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] scratch = this.scratch();
+        for (int i = offset, end = offset + length; i < end; ) {
+            int count = Math.min(SCRATCH_SIZE, end - i);
+            this.nextLongs(scratch, 0, count);
+            for (int k = 0; k < count; k++) {
+                values[i++] = DataCast.toLimitedDouble(scratch[k]);
+            }
+        }
+    }
+
+    public void nextFloats(float[] values) {
+        this.nextFloats(values, 0, values.length);
+    }
+
+    public void nextFloats(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] scratch = this.scratch();
+        for (int i = offset, end = offset + length; i < end; ) {
+            int count = Math.min(SCRATCH_SIZE, end - i);
+            this.nextLongs(scratch, 0, count);
+            for (int k = 0; k < count; k++) {
+                values[i++] = DataCast.toLimitedFloat(scratch[k]);
+            }
+        }
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        this.nextBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 字节布局与 {@link Random#nextBytes(byte[], int, int)} 相同: 每个 long 按大端序写入 8 字节, 末尾不足 8 字节时取下一个 long 的高位字节
+     */
+    public void nextBytes(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        long[] scratch = this.scratch();
+        int i = offset;
+        int end = offset + length;
+        while (end - i >= 8) {
+            int count = Math.min(SCRATCH_SIZE, (end - i) >>> 3);
+            this.nextLongs(scratch, 0, count);
+            for (int k = 0; k < count; k++, i += 8) {
+                BYTE_ARRAY_VIEW.set(bytes, i, scratch[k]);
+            }
+        }
+        if (i < end) {
+            long r = this.nextLong();
+            for (; i < end; i++) {
+                bytes[i] = (byte) (r >>> 56);
+                r <<= 8;
+            }
+        }
+    }
+
+    /**
+     * 填充 position 到 limit 之间的字节, 完成后 position 移动到 limit, 字节布局与 {@link #nextBytes(byte[])} 相同
+     */
+    public void nextBytes(ByteBuffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        int position = buffer.position();
+        int end = buffer.limit();
+        if (buffer.hasArray()) {
+            this.nextBytes(buffer.array(), buffer.arrayOffset() + position, end - position);
+            buffer.position(end);
+            return;
+        }
+        long[] scratch = this.scratch();
+        int i = position;
+        while (end - i >= 8) {
+            int count = Math.min(SCRATCH_SIZE, (end - i) >>> 3);
+            this.nextLongs(scratch, 0, count);
+            for (int k = 0; k < count; k++, i += 8) {
+                BYTE_BUFFER_VIEW.set(buffer, i, scratch[k]);
+            }
+        }
+        if (i < end) {
+            long r = this.nextLong();
+            for (; i < end; i++) {
+                buffer.put(i, (byte) (r >>> 56));
+                r <<= 8;
+            }
+        }
+        buffer.position(end);
+    }
+
+    private long[] scratch() {
+        if (this.scratch == null) {
+            this.scratch = new long[SCRATCH_SIZE];
+        }
+        return this.scratch;
+    }
+
+    /**
+     * 推进 steps 步, 第 step 步通道 lane 的输出写入 out[offset + step * LANES + lane]
+     */
+    private static void fill(long[] state0, long[] state1, long[] out, int offset, int steps) {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs((long) steps * LANES);
+        }
+        if (VECTORIZED) {
+            VectorRandomKernel.fill(state0, state1, out, offset, steps);
+        } else {
+            fillScalar(state0, state1, out, offset, steps);
+        }
+    }
+
+    static void fillScalar(long[] state0, long[] state1, long[] out, int offset, int steps) {
+        for (int lane = 0; lane < LANES; lane++) {
+            long s0 = state0[lane];
+            long s1 = state1[lane];
+            for (int step = 0, index = offset + lane; step < steps; step++, index += LANES) {
+                long t = s0;
+                s0 = s1;
+                t ^= t << 23;
+                t ^= t >>> 17;
+                t ^= s1;
+                t ^= s1 >>> 26;
+                s1 = t;
+                out[index] = Random.murmurHash3(s0 ^ s1);
+            }
+            state0[lane] = s0;
+            state1[lane] = s1;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.nyaa.common.util.random;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link VectorRandom} 的 Vector API 实现, 单独成类, 未加载 jdk.incubator.vector 模块时不会被解析
+ * 每个向量负责 SPECIES.length() 个相邻通道, 状态在整个循环中保留在寄存器中
+ */
+final class VectorRandomKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorRandomKernel() {
+    }
+
+    /**
+     * 向量宽度能整除通道数且至少为 2 时才有收益
+     */
+    static boolean isSupported() {
+        int length = SPECIES.length();
+        return length >= 2 && VectorRandom.LANES % length == 0;
+    }
+
+    /**
+     * 见 {@link VectorRandom#fillScalar(long[], long[], long[], int, int)}
+     */
+    static void fill(long[] state0, long[] state1, long[] out, int offset, int steps) {
+        int width = SPECIES.length();
+        for (int lane = 0; lane < VectorRandom.LANES; lane += width) {
+            LongVector s0 = LongVector.fromArray(SPECIES, state0, lane);
+            LongVector s1 = LongVector.fromArray(SPECIES, state1, lane);
+            for (int step = 0, index = offset + lane; step < steps; step++, index += VectorRandom.LANES) {
+                LongVector t = s0;
+                s0 = s1;
+                t = t.lanewise(VectorOperators.XOR, t.lanewise(VectorOperators.LSHL, 23));
+                t = t.lanewise(VectorOperators.XOR, t.lanewise(VectorOperators.LSHR, 17));
+                t = t.lanewise(VectorOperators.XOR, s1);
+                t = t.lanewise(VectorOperators.XOR, s1.lanewise(VectorOperators.LSHR, 26));
+                s1 = t;
+                // murmurHash3 finalizer
+                LongVector h = s0.lanewise(VectorOperators.XOR, s1);
+                h = h.lanewise(VectorOperators.XOR, h.lanewise(VectorOperators.LSHR, 33));
+                h = h.mul(0xFF51AFD7ED558CCDL);
+                h = h.lanewise(VectorOperators.XOR, h.lanewise(VectorOperators.LSHR, 33));
+                h = h.mul(0xC4CEB9FE1A85EC53L);
+                h = h.lanewise(VectorOperators.XOR, h.lanewise(VectorOperators.LSHR, 33));
+                h.intoArray(out, index);
+            }
+            s0.intoArray(state0, lane);
+            s1.intoArray(state1, lane);
+        }
+    }
+}
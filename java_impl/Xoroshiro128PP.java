@@ -0,0 +1,130 @@
+package com.nyaa.common.util.random;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * xoroshiro128++ (49, 21, 28, 旋转 17), 周期 2^128 - 1
+ * 输出经过加法与旋转, 低位也通过 BigCrush 等测试, 不需要 {@link Random} 那样的 MurmurHash3 后处理
+ * 种子经 {@link SplitMix64} 展开为两个 64 位状态; 状态相同时输出与 JDK 的 Xoroshiro128PlusPlus 相同
+ * 类名不能与 JDK 的算法名重复: RandomGeneratorFactory 以类的简单名称为键收集全部服务, 重名会使工厂在整个 JVM 内无法初始化
+ * 注意: 非密码安全, 非线程安全
+ *
+ * @see <a href="https://prng.di.unimi.it/xoroshiro128plusplus.c">xoroshiro128plusplus.c</a>
+ */
+public class Xoroshiro128PP extends RandomEngine implements RandomGenerator.LeapableGenerator {
+    /**
+     * 前进 2^64 步的跳跃多项式, 取自参考实现
+     */
+    private static final long[] JUMP = {0x2BD7A6A6E99C2DDCL, 0x0992CCAF6A6FCA05L};
+    /**
+     * 前进 2^96 步
+     */
+    private static final long[] LEAP = {0x360FD5F2CF8D5D99L, 0x9C6E6877736C46E3L};
+    private static final String ZERO_STATE = "State cannot be zero.";
+
+    private long state0;
+    private long state1;
+
+    public Xoroshiro128PP() {
+        this(Random.getDefaultSeed());
+    }
+
+    public Xoroshiro128PP(long seed) {
+        this(SplitMix64.mix64(seed + SplitMix64.GOLDEN_GAMMA), SplitMix64.mix64(seed + 2 * SplitMix64.GOLDEN_GAMMA));
+    }
+
+    /**
+     * 直接指定状态
+     *
+     * @throws IllegalArgumentException 全为 0
+     */
+    public Xoroshiro128PP(long state0, long state1) {
+        if (state0 == 0L && state1 == 0L) {
+            throw new IllegalArgumentException(ZERO_STATE);
+        }
+        this.state0 = state0;
+        this.state1 = state1;
+    }
+
+    @Override
+    public Xoroshiro128PP copy() {
+        return new Xoroshiro128PP(this.state0, this.state1);
+    }
+
+    @Override
+    public long nextLong() {
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(1);
+        }
+        long s0 = this.state0;
+        long s1 = this.state1;
+        long result = Long.rotateLeft(s0 + s1, 17) + s0;
+        s1 ^= s0;
+        this.state0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        this.state1 = Long.rotateLeft(s1, 28);
+        return result;
+    }
+
+    @Override
+    public void nextLongs(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (RandomMetrics.ENABLED) {
+            RandomMetrics.recordLongs(length);
+        }
+        long s0 = this.state0;
+        long s1 = this.state1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            values[i] = Long.rotateLeft(s0 + s1, 17) + s0;
+            s1 ^= s0;
+            s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+            s1 = Long.rotateLeft(s1, 28);
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+
+    /**
+     * 前进 2^64 步, 用于为各线程/分片划分互不重叠的子序列
+     */
+    @Override
+    public void jump() {
+        this.jump(JUMP);
+    }
+
+    @Override
+    public double jumpDistance() {
+        return 0x1.0p64;
+    }
+
+    /**
+     * 前进 2^96 步, 每次 leap 之间可再划分 2^32 个 jump 子序列
+     */
+    @Override
+    public void leap() {
+        this.jump(LEAP);
+    }
+
+    @Override
+    public double leapDistance() {
+        return 0x1.0p96;
+    }
+
+    private void jump(long[] polynomial) {
+        long s0 = 0L;
+        long s1 = 0L;
+        for (long word : polynomial) {
+            for (int b = 0; b < 64; b++) {
+                if ((word & (1L << b)) != 0) {
+                    s0 ^= this.state0;
+                    s1 ^= this.state1;
+                }
+                long t = this.state1 ^ this.state0;
+                this.state0 = Long.rotateLeft(this.state0, 49) ^ t ^ (t << 21);
+                this.state1 = Long.rotateLeft(t, 28);
+            }
+        }
+        this.state0 = s0;
+        this.state1 = s1;
+    }
+}
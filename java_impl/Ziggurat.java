@@ -0,0 +1,154 @@
+package com.nyaa.common.util.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Ziggurat 算法生成标准正态分布与指数分布
+ * 每次消耗一个 64 位 nextLong(): 低 8 位选择层, 其余 56 位作为层内坐标, 两者互不重叠;
+ * 绝大多数 (正态约 98.8%, 指数约 98.9%) 情况只需一次乘法与一次比较, 不调用 log/exp/sqrt
+ * 表在类加载时计算一次, 之后只读, 可在多线程间共享
+ *
+ * @see <a href="https://www.jstatsoft.org/article/view/v005i08">The Ziggurat Method for Generating Random Variables</a>
+ */
+public class Ziggurat {
+    private static final int NORMAL_LAYERS = 128;
+    private static final int EXPONENTIAL_LAYERS = 256;
+    /**
+     * 正态分布尾部起点 r 与每层面积 v
+     */
+    private static final double NORMAL_R = 3.442619855899;
+    private static final double NORMAL_V = 9.91256303526217e-3;
+    /**
+     * 指数分布尾部起点 r 与每层面积 v
+     */
+    private static final double EXPONENTIAL_R = 7.697117470131487;
+    private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+    /**
+     * 层内坐标为 56 位
+     */
+    private static final double M1 = 0x1.0p55;
+    private static final double M2 = 0x1.0p56;
+
+    private static final long[] KN = new long[NORMAL_LAYERS];
+    private static final double[] WN = new double[NORMAL_LAYERS];
+    private static final double[] FN = new double[NORMAL_LAYERS];
+    private static final long[] KE = new long[EXPONENTIAL_LAYERS];
+    private static final double[] WE = new double[EXPONENTIAL_LAYERS];
+    private static final double[] FE = new double[EXPONENTIAL_LAYERS];
+
+    static {
+        double dn = NORMAL_R;
+        double tn = dn;
+        double q = NORMAL_V / Math.exp(-0.5 * dn * dn);
+        KN[0] = (long) ((dn / q) * M1);
+        KN[1] = 0L;
+        WN[0] = q / M1;
+        WN[NORMAL_LAYERS - 1] = dn / M1;
+        FN[0] = 1.0;
+        FN[NORMAL_LAYERS - 1] = Math.exp(-0.5 * dn * dn);
+        for (int i = NORMAL_LAYERS - 2; i >= 1; i--) {
+            dn = Math.sqrt(-2.0 * Math.log(NORMAL_V / dn + Math.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (long) ((dn / tn) * M1);
+            tn = dn;
+            FN[i] = Math.exp(-0.5 * dn * dn);
+            WN[i] = dn / M1;
+        }
+
+        double de = EXPONENTIAL_R;
+        double te = de;
+        q = EXPONENTIAL_V / Math.exp(-de);
+        KE[0] = (long) ((de / q) * M2);
+        KE[1] = 0L;
+        WE[0] = q / M2;
+        WE[EXPONENTIAL_LAYERS - 1] = de / M2;
+        FE[0] = 1.0;
+        FE[EXPONENTIAL_LAYERS - 1] = Math.exp(-de);
+        for (int i = EXPONENTIAL_LAYERS - 2; i >= 1; i--) {
+            de = -Math.log(EXPONENTIAL_V / de + Math.exp(-de));
+            KE[i + 1] = (long) ((de / te) * M2);
+            te = de;
+            FE[i] = Math.exp(-de);
+            WE[i] = de / M2;
+        }
+    }
+
+    /**
+     * 标准正态分布 N(0, 1)
+     */
+    public static double nextGaussian(RandomGenerator rng) {
+        long r = rng.nextLong();
+        int i = (int) (r & (NORMAL_LAYERS - 1));
+        // 高 56 位, 带符号
+        long j = r >> 8;
+        if (Math.abs(j) < KN[i]) {
+            return j * WN[i];
+        }
+        return gaussianSlowPath(rng, j, i);
+    }
+
+    private static double gaussianSlowPath(RandomGenerator rng, long j, int i) {
+        while (true) {
+            double x = j * WN[i];
+            if (i == 0) {
+                // 尾部, Marsaglia 1964
+                double y;
+                do {
+                    x = -Math.log(nextOpenDouble(rng)) / NORMAL_R;
+                    y = -Math.log(nextOpenDouble(rng));
+                } while (y + y < x * x);
+                return j > 0 ? NORMAL_R + x : -NORMAL_R - x;
+            }
+            if (FN[i] + nextOpenDouble(rng) * (FN[i - 1] - FN[i]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+            long r = rng.nextLong();
+            i = (int) (r & (NORMAL_LAYERS - 1));
+            j = r >> 8;
+            if (Math.abs(j) < KN[i]) {
+                return j * WN[i];
+            }
+        }
+    }
+
+    /**
+     * 参数为 1 的指数分布
+     */
+    public static double nextExponential(RandomGenerator rng) {
+        long r = rng.nextLong();
+        int i = (int) (r & (EXPONENTIAL_LAYERS - 1));
+        // 高 56 位, 无符号
+        long j = r >>> 8;
+        if (j < KE[i]) {
+            return j * WE[i];
+        }
+        return exponentialSlowPath(rng, j, i);
+    }
+
+    private static double exponentialSlowPath(RandomGenerator rng, long j, int i) {
+        double tail = 0.0;
+        while (true) {
+            if (i == 0) {
+                // 指数分布无记忆, 尾部即 r 加上一个新的指数分布随机数
+                tail += EXPONENTIAL_R;
+            } else {
+                double x = j * WE[i];
+                if (FE[i] + nextOpenDouble(rng) * (FE[i - 1] - FE[i]) < Math.exp(-x)) {
+                    return tail + x;
+                }
+            }
+            long r = rng.nextLong();
+            i = (int) (r & (EXPONENTIAL_LAYERS - 1));
+            j = r >>> 8;
+            if (j < KE[i]) {
+                return tail + j * WE[i];
+            }
+        }
+    }
+
+    /**
+     * (0, 1) 开区间均匀分布, 供 log 使用
+     */
+    private static double nextOpenDouble(RandomGenerator rng) {
+        return ((rng.nextLong() >>> 11) + 0.5) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,28 @@
+package com.nyaa.common.util.random.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准入口, 默认挂载 gc profiler 以同时输出吞吐量与每次调用的分配量 (gc.alloc.rate.norm)
+ * 参数为基准名的正则, 缺省运行全部基准, 例如:
+ * java -jar java_impl/benchmark/target/benchmarks.jar "RandomBenchmark.nextLong$"
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder builder = new OptionsBuilder();
+        if (args.length == 0) {
+            builder.include(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+        for (String include : args) {
+            builder.include(include);
+        }
+        Options options = builder
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
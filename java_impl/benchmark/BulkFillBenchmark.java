@@ -0,0 +1,181 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.Random;
+import com.nyaa.common.util.random.SplitMix64;
+import com.nyaa.common.util.random.V8XorShift128Plus;
+import com.nyaa.common.util.random.VectorRandom;
+import com.nyaa.common.util.random.Xoroshiro128PP;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量填充与逐个调用的对照基准
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BulkFillBenchmark {
+    @Param({"1024", "1048576"})
+    public int size;
+
+    private Random random;
+    private VectorRandom vectorRandom;
+    private SplittableRandom splittableRandom;
+    private SplitMix64 splitMix64;
+    private Xoroshiro128PP xoroshiro128PP;
+    private V8XorShift128Plus v8XorShift128Plus;
+    private long[] longs;
+    private int[] ints;
+    private double[] doubles;
+    private float[] floats;
+    private byte[] bytes;
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setup() {
+        this.random = new Random(0x5DEECE66DL);
+        this.vectorRandom = new VectorRandom(0x5DEECE66DL);
+        this.splittableRandom = new SplittableRandom(0x5DEECE66DL);
+        this.splitMix64 = new SplitMix64(0x5DEECE66DL);
+        this.xoroshiro128PP = new Xoroshiro128PP(0x5DEECE66DL);
+        this.v8XorShift128Plus = new V8XorShift128Plus(0x5DEECE66DL);
+        this.longs = new long[this.size];
+        this.ints = new int[this.size];
+        this.doubles = new double[this.size];
+        this.floats = new float[this.size];
+        this.bytes = new byte[this.size];
+        this.directBuffer = ByteBuffer.allocateDirect(this.size);
+    }
+
+    @Benchmark
+    public long[] nextLongs() {
+        this.random.nextLongs(this.longs);
+        return this.longs;
+    }
+
+    @Benchmark
+    public long[] splitMix64NextLongs() {
+        this.splitMix64.nextLongs(this.longs);
+        return this.longs;
+    }
+
+    @Benchmark
+    public long[] xoroshiro128PPNextLongs() {
+        this.xoroshiro128PP.nextLongs(this.longs);
+        return this.longs;
+    }
+
+    @Benchmark
+    public long[] v8XorShift128PlusNextLongs() {
+        this.v8XorShift128Plus.nextLongs(this.longs);
+        return this.longs;
+    }
+
+    @Benchmark
+    public long[] nextLongLoop() {
+        long[] values = this.longs;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.random.nextLong();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public long[] splittableRandomLongLoop() {
+        long[] values = this.longs;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.splittableRandom.nextLong();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] nextInts() {
+        this.random.nextInts(this.ints);
+        return this.ints;
+    }
+
+    @Benchmark
+    public double[] nextDoubles() {
+        this.random.nextDoubles(this.doubles);
+        return this.doubles;
+    }
+
+    @Benchmark
+    public double[] nextDoubleLoop() {
+        double[] values = this.doubles;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.random.nextDouble();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public float[] nextFloats() {
+        this.random.nextFloats(this.floats);
+        return this.floats;
+    }
+
+    @Benchmark
+    public byte[] nextBytes() {
+        this.random.nextBytes(this.bytes);
+        return this.bytes;
+    }
+
+    @Benchmark
+    public ByteBuffer nextBytesDirectBuffer() {
+        this.directBuffer.clear();
+        this.random.nextBytes(this.directBuffer);
+        return this.directBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer nextBytesCopyToDirectBuffer() {
+        // 改动前的做法: 先生成到临时数组再拷贝
+        byte[] temp = new byte[this.size];
+        this.random.nextBytes(temp);
+        this.directBuffer.clear();
+        this.directBuffer.put(temp);
+        return this.directBuffer;
+    }
+
+    /**
+     * 8 通道交错输出; 需要 --add-modules jdk.incubator.vector, 否则退化为逐通道标量计算
+     */
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public long[] vectorRandomNextLongs() {
+        this.vectorRandom.nextLongs(this.longs);
+        return this.longs;
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public byte[] vectorRandomNextBytes() {
+        this.vectorRandom.nextBytes(this.bytes);
+        return this.bytes;
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dcom.nyaa.common.util.random.VectorRandom.vector=false"})
+    public long[] vectorRandomNextLongsScalar() {
+        this.vectorRandom.nextLongs(this.longs);
+        return this.longs;
+    }
+}
@@ -0,0 +1,109 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.ConcurrentRandom;
+import com.nyaa.common.util.random.Random;
+import com.nyaa.common.util.random.UUID;
+import com.nyaa.common.util.random.UUIDPool;
+import com.nyaa.common.util.random.UUIDv7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多线程下共享生成器的扩展性基准
+ * main 依次以 1 ~ 32 个线程运行, 对比每线程子序列 (ConcurrentRandom) 与加锁共享 Random 的总吞吐量
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentUUIDBenchmark {
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32};
+    private static final int V7_BATCH = 64;
+
+    private final ConcurrentRandom concurrentRandom = new ConcurrentRandom(0x5DEECE66DL);
+    private final Random lockedRandom = new Random(0x5DEECE66DL);
+    private final UUIDv7Generator v7Generator = new UUIDv7Generator();
+    private final UUIDPool pool = new UUIDPool(1 << 16);
+
+    @Benchmark
+    public UUID createV4() {
+        return UUID.createV4();
+    }
+
+    @Benchmark
+    public UUID createV7() {
+        return UUID.createV7();
+    }
+
+    /**
+     * 一次 CAS 分配 64 个 UUIDv7, 结果写入每线程的缓冲区
+     */
+    @Benchmark
+    @OperationsPerInvocation(V7_BATCH)
+    public long[] createV7Batch(V7Buffer buffer) {
+        this.v7Generator.generate(V7_BATCH, buffer.pairs);
+        return buffer.pairs;
+    }
+
+    /**
+     * 命中时只有一次 CAS 与一次对象分配, 池耗尽时退化为 createV4
+     */
+    @Benchmark
+    public UUID poolTake() {
+        return this.pool.take();
+    }
+
+    @Benchmark
+    public long concurrentRandomNextLong() {
+        return this.concurrentRandom.nextLong();
+    }
+
+    @Benchmark
+    public long lockedRandomNextLong() {
+        synchronized (this.lockedRandom) {
+            return this.lockedRandom.nextLong();
+        }
+    }
+
+    @Benchmark
+    public java.util.UUID jdkRandomUUID() {
+        return java.util.UUID.randomUUID();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.close();
+    }
+
+    @State(Scope.Thread)
+    public static class V7Buffer {
+        private final long[] pairs = new long[2 * V7_BATCH];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentUUIDBenchmark.class.getName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.DataCast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataCast 数值转换及十六进制编码的吞吐量基准
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DataCastBenchmark {
+    @Param({"16", "1024"})
+    public int size;
+
+    private long bits;
+    private byte[] bytes;
+    private byte[] uuidChars;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        this.bits = random.nextLong();
+        this.bytes = new byte[this.size];
+        random.nextBytes(this.bytes);
+        this.uuidChars = new byte[36];
+    }
+
+    @Benchmark
+    public double toLimitedDouble() {
+        return DataCast.toLimitedDouble(this.bits++);
+    }
+
+    @Benchmark
+    public float toLimitedFloat() {
+        return DataCast.toLimitedFloat(this.bits++);
+    }
+
+    @Benchmark
+    public String bytesToHex() {
+        return DataCast.bytesToHex(this.bytes, false);
+    }
+
+    @Benchmark
+    public String bytesToHexWithSeparator() {
+        byte[] chars = this.uuidChars;
+        chars[8] = '-';
+        chars[13] = '-';
+        chars[18] = '-';
+        chars[23] = '-';
+        return DataCast.bytesToHexWithSeparator(this.bytes, chars, false);
+    }
+}
@@ -0,0 +1,171 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.BoundedSampler;
+import com.nyaa.common.util.random.Random;
+import com.nyaa.common.util.random.RandomEngine;
+import com.nyaa.common.util.random.V8MathRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random 全部公开方法的吞吐量基准, 并与 RandomEngine 各引擎及 JDK 自带生成器对照
+ * 每个 fork 只加载一种实现, 保证调用点单态
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RandomBenchmark {
+    private static final long SEED = 0x5DEECE66DL;
+
+    @Param({"V8", "V8MathRandom", "SplitMix64", "Xoroshiro128PP", "V8XorShift128Plus", "SplittableRandom", "ThreadLocalRandom"})
+    public String algorithm;
+
+    private final BoundedSampler sampler = new BoundedSampler(1_000_003);
+    private RandomGenerator generator;
+    private byte[] bytes16;
+    private byte[] bytes1024;
+
+    @Setup
+    public void setup() {
+        this.generator = switch (this.algorithm) {
+            case "V8" -> new Random(SEED);
+            case "V8MathRandom" -> new V8MathRandom(SEED);
+            case "SplitMix64", "Xoroshiro128PP", "V8XorShift128Plus" -> RandomEngine.of(this.algorithm, SEED);
+            case "SplittableRandom" -> new SplittableRandom(SEED);
+            case "ThreadLocalRandom" -> ThreadLocalRandom.current();
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + this.algorithm);
+        };
+        this.bytes16 = new byte[16];
+        this.bytes1024 = new byte[1024];
+    }
+
+    @Benchmark
+    public boolean nextBoolean() {
+        return this.generator.nextBoolean();
+    }
+
+    @Benchmark
+    public int nextInt() {
+        return this.generator.nextInt();
+    }
+
+    @Benchmark
+    public int nextIntBound() {
+        // 非 2 的幂, 走拒绝采样分支
+        return this.generator.nextInt(1_000_003);
+    }
+
+    @Benchmark
+    public int boundedSampler() {
+        return this.sampler.sampleInt(this.generator);
+    }
+
+    @Benchmark
+    public int nextIntPowerOfTwoBound() {
+        return this.generator.nextInt(1 << 20);
+    }
+
+    @Benchmark
+    public int nextIntRange() {
+        return this.generator.nextInt(-500_000, 500_003);
+    }
+
+    @Benchmark
+    public long nextLong() {
+        return this.generator.nextLong();
+    }
+
+    @Benchmark
+    public long nextLongBound() {
+        return this.generator.nextLong(1_000_000_000_039L);
+    }
+
+    @Benchmark
+    public long nextLongRange() {
+        return this.generator.nextLong(-1_000_000_000_000L, 1_000_000_000_039L);
+    }
+
+    /**
+     * 开启 RandomMetrics 后的开销, 与 nextLong / nextIntBound 对照; 关闭时两者应无差别
+     */
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dcom.nyaa.common.util.random.RandomMetrics.enabled=true")
+    public long nextLongMetrics() {
+        return this.generator.nextLong();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dcom.nyaa.common.util.random.RandomMetrics.enabled=true")
+    public int nextIntBoundMetrics() {
+        return this.generator.nextInt(1_000_003);
+    }
+
+    @Benchmark
+    public float nextFloat() {
+        return this.generator.nextFloat();
+    }
+
+    @Benchmark
+    public float nextFloatBound() {
+        return this.generator.nextFloat(100.0f);
+    }
+
+    @Benchmark
+    public float nextFloatRange() {
+        return this.generator.nextFloat(-100.0f, 100.0f);
+    }
+
+    @Benchmark
+    public double nextDouble() {
+        return this.generator.nextDouble();
+    }
+
+    @Benchmark
+    public double nextDoubleBound() {
+        return this.generator.nextDouble(100.0);
+    }
+
+    @Benchmark
+    public double nextDoubleRange() {
+        return this.generator.nextDouble(-100.0, 100.0);
+    }
+
+    @Benchmark
+    public byte[] nextBytes16() {
+        this.generator.nextBytes(this.bytes16);
+        return this.bytes16;
+    }
+
+    @Benchmark
+    public byte[] nextBytes1024() {
+        this.generator.nextBytes(this.bytes1024);
+        return this.bytes1024;
+    }
+
+    @Benchmark
+    public double nextExponential() {
+        return this.generator.nextExponential();
+    }
+
+    @Benchmark
+    public double nextGaussian() {
+        return this.generator.nextGaussian();
+    }
+}
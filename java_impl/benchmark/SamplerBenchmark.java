@@ -0,0 +1,100 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.Random;
+import com.nyaa.common.util.random.sampler.AliasTable;
+import com.nyaa.common.util.random.sampler.BinomialSampler;
+import com.nyaa.common.util.random.sampler.GeometricSampler;
+import com.nyaa.common.util.random.sampler.PoissonSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 离散分布采样器基准, 加权选择与累积数组二分查找对照
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SamplerBenchmark {
+    @Param({"16", "1048576"})
+    public int categories;
+
+    private Random random;
+    private AliasTable aliasTable;
+    private double[] cumulative;
+    private PoissonSampler smallPoisson;
+    private PoissonSampler largePoisson;
+    private BinomialSampler smallBinomial;
+    private BinomialSampler largeBinomial;
+    private GeometricSampler geometric;
+
+    @Setup
+    public void setup() {
+        this.random = new Random(0x5DEECE66DL);
+        double[] weights = new double[this.categories];
+        this.cumulative = new double[this.categories];
+        double sum = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = this.random.nextExponential();
+            sum += weights[i];
+            this.cumulative[i] = sum;
+        }
+        this.aliasTable = new AliasTable(weights);
+        this.smallPoisson = new PoissonSampler(4.0);
+        this.largePoisson = new PoissonSampler(1000.0);
+        this.smallBinomial = new BinomialSampler(20, 0.3);
+        this.largeBinomial = new BinomialSampler(100_000, 0.3);
+        this.geometric = new GeometricSampler(0.01);
+    }
+
+    @Benchmark
+    public int aliasTable() {
+        return this.aliasTable.sample(this.random);
+    }
+
+    @Benchmark
+    public int cumulativeBinarySearch() {
+        double u = this.random.nextDouble() * this.cumulative[this.cumulative.length - 1];
+        int index = Arrays.binarySearch(this.cumulative, u);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Benchmark
+    public int smallPoisson() {
+        return this.smallPoisson.sample(this.random);
+    }
+
+    @Benchmark
+    public int largePoisson() {
+        return this.largePoisson.sample(this.random);
+    }
+
+    @Benchmark
+    public int smallBinomial() {
+        return this.smallBinomial.sample(this.random);
+    }
+
+    @Benchmark
+    public int largeBinomial() {
+        return this.largeBinomial.sample(this.random);
+    }
+
+    @Benchmark
+    public int geometric() {
+        return this.geometric.sample(this.random);
+    }
+}
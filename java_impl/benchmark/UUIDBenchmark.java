@@ -0,0 +1,191 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.NameBasedUUIDGenerator;
+import com.nyaa.common.util.random.Random;
+import com.nyaa.common.util.random.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID 各版本工厂方法及格式化的吞吐量基准, 并与 java.util.UUID 对照
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class UUIDBenchmark {
+    private static final String NAMESPACE = "6ba7b810-9dad-11d1-80b4-00c04fd430c8";
+    private static final String NAME = "www.example.com";
+
+    private Random random;
+    private UUID uuid;
+    private UUID other;
+    private java.util.UUID jdkUUID;
+    private byte[] nameBytes;
+    private String text;
+    private byte[] asciiText;
+    private byte[] textBuffer;
+    private StringBuilder builder;
+    private NameBasedUUIDGenerator v5Generator;
+    private UUID v7;
+
+    @Setup
+    public void setup() {
+        this.random = new Random(0x5DEECE66DL);
+        this.uuid = UUID.createV4();
+        this.other = new UUID(this.uuid.getMostSignificantBits(), this.uuid.getLeastSignificantBits() + 1);
+        this.jdkUUID = java.util.UUID.randomUUID();
+        this.nameBytes = (NAMESPACE + NAME).getBytes(StandardCharsets.UTF_8);
+        this.text = this.uuid.toString();
+        this.asciiText = this.text.getBytes(StandardCharsets.US_ASCII);
+        this.textBuffer = new byte[36];
+        this.builder = new StringBuilder(64);
+        this.v5Generator = new NameBasedUUIDGenerator(NameBasedUUIDGenerator.NAMESPACE_DNS, 5);
+        this.v7 = UUID.createV7();
+    }
+
+    @Benchmark
+    public UUID createV1() {
+        return UUID.createV1();
+    }
+
+    @Benchmark
+    public UUID createV2() {
+        return UUID.createV2((byte) 0);
+    }
+
+    @Benchmark
+    public UUID createV3() {
+        return UUID.createV3(NAMESPACE, NAME);
+    }
+
+    @Benchmark
+    public UUID createV4() {
+        return UUID.createV4();
+    }
+
+    @Benchmark
+    public UUID createV4Seeded() {
+        return UUID.createV4(0x5DEECE66DL);
+    }
+
+    @Benchmark
+    public UUID createV5() {
+        return UUID.createV5(NAMESPACE, NAME);
+    }
+
+    @Benchmark
+    public UUID nameBasedV5() {
+        return this.v5Generator.generate(NAME);
+    }
+
+    @Benchmark
+    public UUID createV6() {
+        return UUID.createV6();
+    }
+
+    @Benchmark
+    public UUID createV7() {
+        return UUID.createV7();
+    }
+
+    @Benchmark
+    public UUID nextUUIDv4() {
+        return this.random.nextUUIDv4();
+    }
+
+    @Benchmark
+    public String toText() {
+        return this.uuid.toString();
+    }
+
+    @Benchmark
+    public byte[] writeTo() {
+        this.uuid.writeTo(this.textBuffer, 0);
+        return this.textBuffer;
+    }
+
+    @Benchmark
+    public StringBuilder appendTo() {
+        this.builder.setLength(0);
+        return this.uuid.appendTo(this.builder);
+    }
+
+    @Benchmark
+    public String getMetadata() {
+        return this.uuid.getMetadata();
+    }
+
+    @Benchmark
+    public long timestampMillis() {
+        return this.v7.timestampMillis();
+    }
+
+    @Benchmark
+    public String getMetadataV7() {
+        return this.v7.getMetadata();
+    }
+
+    @Benchmark
+    public boolean equalsUUID() {
+        return this.uuid.equals(this.other);
+    }
+
+    @Benchmark
+    public int hashCodeUUID() {
+        return this.uuid.hashCode();
+    }
+
+    @Benchmark
+    public int compareToUUID() {
+        return this.uuid.compareTo(this.other);
+    }
+
+    @Benchmark
+    public java.util.UUID toJavaUUID() {
+        return this.uuid.toJavaUUID();
+    }
+
+    @Benchmark
+    public UUID parse() {
+        return UUID.parse(this.text);
+    }
+
+    @Benchmark
+    public UUID parseAscii() {
+        return UUID.parse(this.asciiText, 0, this.asciiText.length);
+    }
+
+    @Benchmark
+    public java.util.UUID jdkFromString() {
+        return java.util.UUID.fromString(this.text);
+    }
+
+    @Benchmark
+    public java.util.UUID jdkRandomUUID() {
+        return java.util.UUID.randomUUID();
+    }
+
+    @Benchmark
+    public java.util.UUID jdkNameUUIDFromBytes() {
+        return java.util.UUID.nameUUIDFromBytes(this.nameBytes);
+    }
+
+    @Benchmark
+    public String jdkToText() {
+        return this.jdkUUID.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.UUID;
+import com.nyaa.common.util.random.UUIDBinaryCodec;
+import com.nyaa.common.util.random.UUIDColumnFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量二进制编解码与列文件, 对照逐个转为 byte[16] 的导出方式
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UUIDCodecBenchmark {
+    @Param({"1024", "65536"})
+    public int size;
+
+    private UUID[] uuids;
+    private UUID[] decoded;
+    private ByteBuffer buffer;
+    private Path path;
+    private UUIDColumnFile file;
+    private UUID probe;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.uuids = new UUID[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.uuids[i] = UUID.createV4();
+        }
+        this.decoded = new UUID[this.size];
+        this.buffer = ByteBuffer.allocateDirect(this.size * UUIDBinaryCodec.RECORD_SIZE);
+
+        UUID[] sorted = this.uuids.clone();
+        Arrays.sort(sorted);
+        this.path = Files.createTempFile("uuid-benchmark", ".col");
+        UUIDColumnFile.write(this.path, sorted);
+        this.file = UUIDColumnFile.open(this.path);
+        this.probe = sorted[this.size / 3];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.file.close();
+        Files.deleteIfExists(this.path);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        this.buffer.clear();
+        UUIDBinaryCodec.encode(this.uuids, 0, this.size, this.buffer);
+        return this.buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeToBytesLoop() {
+        this.buffer.clear();
+        for (UUID uuid : this.uuids) {
+            this.buffer.put(uuid.toBytes());
+        }
+        return this.buffer;
+    }
+
+    @Benchmark
+    public UUID[] decode() {
+        this.buffer.clear();
+        UUIDBinaryCodec.decode(this.buffer, this.decoded, 0, this.size);
+        return this.decoded;
+    }
+
+    @Benchmark
+    public void scanFile(Blackhole blackhole) {
+        this.file.scan((msb, lsb) -> blackhole.consume(msb ^ lsb));
+    }
+
+    @Benchmark
+    public long binarySearchFile() {
+        return this.file.binarySearch(this.probe);
+    }
+}
@@ -0,0 +1,88 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.Random;
+import com.nyaa.common.util.random.UUID;
+import com.nyaa.common.util.random.UUIDScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从 16 MiB 的模拟日志中提取 UUID, 对照逐行正则
+ * collectScalar 以 -Dcom.nyaa.common.util.random.UUIDScanner.vector=false 运行标量实现
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class UUIDScannerBenchmark {
+    private static final int FILE_SIZE = 16 << 20;
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+
+    private Path path;
+    private UUIDScanner scanner;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Random random = new Random(0x5DEECE66DL);
+        StringBuilder log = new StringBuilder(FILE_SIZE + 256);
+        while (log.length() < FILE_SIZE) {
+            log.append("2024-01-02 12:34:56.789 INFO  [worker-").append(random.nextInt(64)).append("] request ");
+            if (random.nextInt(4) == 0) {
+                log.append("id=").append(UUID.createV4()).append(' ');
+            }
+            log.append("completed in ").append(random.nextInt(1000)).append(" ms\n");
+        }
+        this.path = Files.createTempFile("uuid-scanner", ".log");
+        Files.writeString(this.path, log, StandardCharsets.US_ASCII);
+        this.scanner = new UUIDScanner();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    @Benchmark
+    public long[] collect() throws IOException {
+        return this.scanner.collect(this.path);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dcom.nyaa.common.util.random.UUIDScanner.vector=false"})
+    public long[] collectScalar() throws IOException {
+        return this.scanner.collect(this.path);
+    }
+
+    @Benchmark
+    public long regexLines() throws IOException {
+        long count = 0;
+        for (String line : Files.readAllLines(this.path, StandardCharsets.US_ASCII)) {
+            Matcher matcher = UUID_PATTERN.matcher(line);
+            while (matcher.find()) {
+                count += java.util.UUID.fromString(matcher.group()).getMostSignificantBits() & 1;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,68 @@
+package com.nyaa.common.util.random.benchmark;
+
+import com.nyaa.common.util.random.UUID;
+import com.nyaa.common.util.random.UUIDTextCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 紧凑文本编码的吞吐量基准, 36 字符的十六进制格式见 {@link UUIDBenchmark#writeTo()} 与 parse 系列
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class UUIDTextCodecBenchmark {
+    @Param({"BASE64URL", "CROCKFORD_BASE32", "BASE62"})
+    public UUIDTextCodec codec;
+
+    private UUID uuid;
+    private String text;
+    private byte[] ascii;
+    private byte[] buffer;
+    private final long[] pair = new long[2];
+
+    @Setup
+    public void setup() {
+        this.uuid = UUID.createV7();
+        this.text = this.codec.encode(this.uuid);
+        this.ascii = this.text.getBytes(StandardCharsets.US_ASCII);
+        this.buffer = new byte[this.codec.length()];
+    }
+
+    @Benchmark
+    public String encode() {
+        return this.codec.encode(this.uuid);
+    }
+
+    @Benchmark
+    public byte[] writeTo() {
+        this.codec.writeTo(this.uuid, this.buffer, 0);
+        return this.buffer;
+    }
+
+    @Benchmark
+    public UUID decode() {
+        return this.codec.decode(this.text);
+    }
+
+    @Benchmark
+    public long[] tryDecodeBytes() {
+        this.codec.tryDecode(this.ascii, 0, this.ascii.length, this.pair, 0);
+        return this.pair;
+    }
+}
@@ -0,0 +1,87 @@
+package com.nyaa.common.util.random.sampler;
+
+import com.nyaa.common.util.random.RandomSupport;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 加权随机选择, Walker/Vose 别名法
+ * 构造 O(n), 每次采样 O(1) 且只消耗一个 nextLong():
+ * 64 位随机数乘以 n 得到 128 位乘积, 高 64 位为列号, 低 64 位为列内的均匀小数
+ *
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/">Darts, Dice, and Coins</a>
+ */
+public class AliasTable implements DiscreteSampler {
+    private static final String BAD_WEIGHTS = "weights must be non-empty, finite, non-negative and not all zero";
+
+    /**
+     * 第 i 列保留自身的概率
+     */
+    private final double[] probability;
+    /**
+     * 第 i 列未保留时改选的下标
+     */
+    private final int[] alias;
+
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double sum = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0 && weight < Double.POSITIVE_INFINITY)) {
+                throw new IllegalArgumentException(BAD_WEIGHTS);
+            }
+            sum += weight;
+        }
+        if (n == 0 || !(sum > 0.0 && sum < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException(BAD_WEIGHTS);
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+        double[] scaled = new double[n];
+        // small 从前往后, large 从后往前, 共用一个数组
+        int[] worklist = new int[n];
+        int small = 0;
+        int large = n;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                worklist[small++] = i;
+            } else {
+                worklist[--large] = i;
+            }
+        }
+        while (small > 0 && large < n) {
+            int less = worklist[--small];
+            int more = worklist[large++];
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                worklist[small++] = more;
+            } else {
+                worklist[--large] = more;
+            }
+        }
+        // 剩余项因舍入误差而未配对, 概率视为 1
+        while (large < n) {
+            this.probability[worklist[large++]] = 1.0;
+        }
+        while (small > 0) {
+            this.probability[worklist[--small]] = 1.0;
+        }
+    }
+
+    public int size() {
+        return this.probability.length;
+    }
+
+    @Override
+    public int sample(RandomGenerator rng) {
+        long r = rng.nextLong();
+        long n = this.probability.length;
+        int column = (int) RandomSupport.unsignedMultiplyHigh(r, n);
+        double fraction = ((r * n) >>> 11) * 0x1.0p-53;
+        return fraction < this.probability[column] ? column : this.alias[column];
+    }
+}
@@ -0,0 +1,200 @@
+package com.nyaa.common.util.random.sampler;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 二项分布 B(n, p)
+ * 以 r = min(p, 1 - p) 采样, p > 0.5 时取 n - X; n·r 不超过 30 时使用逆变换法, 否则使用 BTPE
+ * (Kachitvichyanukul & Schmeiser 1988, 三角形/平行四边形/指数分段的接受拒绝法); 相关常量在构造时计算
+ *
+ * @see <a href="https://doi.org/10.1145/42372.42381">Binomial random variate generation</a>
+ */
+public class BinomialSampler implements DiscreteSampler {
+    private static final String BAD_TRIALS = "trials must be non-negative";
+    private static final String BAD_PROBABILITY = "probability must be in [0, 1]";
+    private static final double BTPE_THRESHOLD = 30.0;
+
+    private final int n;
+    private final double p;
+    private final double r;
+    private final double q;
+    private final boolean btpe;
+
+    // 逆变换法
+    private final double qn;
+    private final double inversionBound;
+
+    // BTPE
+    private final int m;
+    private final double nrq;
+    private final double p1;
+    private final double xm;
+    private final double xl;
+    private final double xr;
+    private final double c;
+    private final double laml;
+    private final double lamr;
+    private final double p2;
+    private final double p3;
+    private final double p4;
+
+    public BinomialSampler(int trials, double probability) {
+        if (trials < 0) {
+            throw new IllegalArgumentException(BAD_TRIALS);
+        }
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException(BAD_PROBABILITY);
+        }
+        this.n = trials;
+        this.p = probability;
+        this.r = Math.min(probability, 1.0 - probability);
+        this.q = 1.0 - this.r;
+        this.btpe = this.n * this.r > BTPE_THRESHOLD;
+
+        double np = this.n * this.r;
+        this.qn = Math.exp(this.n * Math.log(this.q));
+        this.inversionBound = Math.min(this.n, np + 10.0 * Math.sqrt(np * this.q + 1.0));
+
+        double fm = this.n * this.r + this.r;
+        this.m = (int) Math.floor(fm);
+        this.nrq = this.n * this.r * this.q;
+        this.p1 = Math.floor(2.195 * Math.sqrt(this.nrq) - 4.6 * this.q) + 0.5;
+        this.xm = this.m + 0.5;
+        this.xl = this.xm - this.p1;
+        this.xr = this.xm + this.p1;
+        this.c = 0.134 + 20.5 / (15.3 + this.m);
+        double a = (fm - this.xl) / (fm - this.xl * this.r);
+        this.laml = a * (1.0 + a / 2.0);
+        a = (this.xr - fm) / (this.xr * this.q);
+        this.lamr = a * (1.0 + a / 2.0);
+        this.p2 = this.p1 * (1.0 + 2.0 * this.c);
+        this.p3 = this.p2 + this.c / this.laml;
+        this.p4 = this.p3 + this.c / this.lamr;
+    }
+
+    public int getTrials() {
+        return this.n;
+    }
+
+    public double getProbability() {
+        return this.p;
+    }
+
+    @Override
+    public int sample(RandomGenerator rng) {
+        if (this.r == 0.0) {
+            return this.p == 0.0 ? 0 : this.n;
+        }
+        int y = this.btpe ? this.sampleBtpe(rng) : this.sampleInversion(rng);
+        return this.p > 0.5 ? this.n - y : y;
+    }
+
+    private int sampleInversion(RandomGenerator rng) {
+        int x = 0;
+        double px = this.qn;
+        double u = rng.nextDouble();
+        while (u > px) {
+            x++;
+            if (x > this.inversionBound) {
+                x = 0;
+                px = this.qn;
+                u = rng.nextDouble();
+            } else {
+                u -= px;
+                px = ((this.n - x + 1) * this.r * px) / (x * this.q);
+            }
+        }
+        return x;
+    }
+
+    private int sampleBtpe(RandomGenerator rng) {
+        while (true) {
+            double u = rng.nextDouble() * this.p4;
+            double v = rng.nextDouble();
+            int y;
+            if (u <= this.p1) {
+                // 三角形区域, 直接接受
+                return (int) Math.floor(this.xm - this.p1 * v + u);
+            } else if (u <= this.p2) {
+                // 平行四边形区域
+                double x = this.xl + (u - this.p1) / this.c;
+                v = v * this.c + 1.0 - Math.abs(this.m - x + 0.5) / this.p1;
+                if (v > 1.0) {
+                    continue;
+                }
+                y = (int) Math.floor(x);
+            } else if (u <= this.p3) {
+                // 左侧指数尾
+                y = (int) Math.floor(this.xl + Math.log(v) / this.laml);
+                if (y < 0 || v == 0.0) {
+                    continue;
+                }
+                v = v * (u - this.p2) * this.laml;
+            } else {
+                // 右侧指数尾
+                double x = Math.floor(this.xr - Math.log(v) / this.lamr);
+                if (x > this.n || v == 0.0) {
+                    continue;
+                }
+                y = (int) x;
+                v = v * (u - this.p3) * this.lamr;
+            }
+            if (this.accept(y, v)) {
+                return y;
+            }
+        }
+    }
+
+    private boolean accept(int y, double v) {
+        int k = Math.abs(y - this.m);
+        if (k <= 20 || k >= this.nrq / 2.0 - 1.0) {
+            // 递推计算 f(y) / f(m)
+            double s = this.r / this.q;
+            double a = s * (this.n + 1);
+            double f = 1.0;
+            if (this.m < y) {
+                for (int i = this.m + 1; i <= y; i++) {
+                    f *= (a / i - s);
+                }
+            } else if (this.m > y) {
+                for (int i = y + 1; i <= this.m; i++) {
+                    f /= (a / i - s);
+                }
+            }
+            return v <= f;
+        }
+
+        // 对 ln f(y) 做挤压, 仍不确定时用 Stirling 公式比较
+        double rho = (k / this.nrq) * ((k * (k / 3.0 + 0.625) + 0.16666666666666666) / this.nrq + 0.5);
+        double t = -(double) k * k / (2.0 * this.nrq);
+        double logV = Math.log(v);
+        if (logV < t - rho) {
+            return true;
+        }
+        if (logV > t + rho) {
+            return false;
+        }
+        return logV <= this.logRatio(y);
+    }
+
+    /**
+     * ln(f(y) / f(m)) 的 Stirling 近似; m 一侧的修正项为正, y 一侧为负
+     * (原论文此处四项全为加号, 是已知的勘误, 与 GSL / rand_distr 一致)
+     */
+    double logRatio(int y) {
+        double x1 = y + 1.0;
+        double f1 = this.m + 1.0;
+        double z = this.n + 1.0 - this.m;
+        double w = this.n - y + 1.0;
+        return this.xm * Math.log(f1 / x1)
+                + (this.n - this.m + 0.5) * Math.log(z / w)
+                + (y - this.m) * Math.log(w * this.r / (x1 * this.q))
+                + stirlingCorrection(f1) + stirlingCorrection(z)
+                - stirlingCorrection(x1) - stirlingCorrection(w);
+    }
+
+    private static double stirlingCorrection(double x) {
+        double x2 = x * x;
+        return (13860.0 - (462.0 - (132.0 - (99.0 - 140.0 / x2) / x2) / x2) / x2) / x / 166320.0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nyaa.common.util.random.sampler;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 离散分布采样器
+ * 实现类在构造时完成全部预计算, 之后不可变, 可在多线程间共享, 每个线程传入各自的生成器
+ */
+public interface DiscreteSampler {
+    int sample(RandomGenerator rng);
+}
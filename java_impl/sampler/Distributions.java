@@ -0,0 +1,41 @@
+package com.nyaa.common.util.random.sampler;
+
+/**
+ * 采样器共用的数值函数
+ */
+class Distributions {
+    private static final double[] LOG_GAMMA_COEFFICIENTS = {
+            8.333333333333333e-02, -2.777777777777778e-03,
+            7.936507936507937e-04, -5.952380952380952e-04,
+            8.417508417508418e-04, -1.917526917526918e-03,
+            6.410256410256410e-03, -2.955065359477124e-02,
+            1.796443723688307e-01, -1.39243221690590e+00
+    };
+    /**
+     * log(2π)
+     */
+    private static final double LOG_2PI = 1.8378770664093453;
+
+    /**
+     * ln Γ(x), x > 0; Stirling 级数, x < 7 时先平移到 7 以上再递推回来
+     */
+    static double logGamma(double x) {
+        if (x == 1.0 || x == 2.0) {
+            return 0.0;
+        }
+        int n = x < 7.0 ? (int) (7.0 - x) : 0;
+        double x0 = x + n;
+        double x2 = (1.0 / x0) * (1.0 / x0);
+        double gl0 = LOG_GAMMA_COEFFICIENTS[9];
+        for (int k = 8; k >= 0; k--) {
+            gl0 *= x2;
+            gl0 += LOG_GAMMA_COEFFICIENTS[k];
+        }
+        double gl = gl0 / x0 + 0.5 * LOG_2PI + (x0 - 0.5) * Math.log(x0) - x0;
+        for (int k = 1; k <= n; k++) {
+            gl -= Math.log(x0 - 1.0);
+            x0 -= 1.0;
+        }
+        return gl;
+    }
+}
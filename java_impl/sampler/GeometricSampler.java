@@ -0,0 +1,38 @@
+package com.nyaa.common.util.random.sampler;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 几何分布: 每次成功概率为 p 的独立试验中, 首次成功所需的试验次数 (取值 1, 2, 3, ...)
+ * 逆变换法 ceil(ln U / ln(1 - p)), 1 / ln(1 - p) 在构造时计算; 结果超过 Integer.MAX_VALUE 时截断
+ */
+public class GeometricSampler implements DiscreteSampler {
+    private static final String BAD_PROBABILITY = "probability must be in (0, 1]";
+
+    private final double probability;
+    private final double inverseLogComplement;
+
+    public GeometricSampler(double probability) {
+        if (!(probability > 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException(BAD_PROBABILITY);
+        }
+        this.probability = probability;
+        this.inverseLogComplement = 1.0 / Math.log1p(-probability);
+    }
+
+    public double getProbability() {
+        return this.probability;
+    }
+
+    @Override
+    public int sample(RandomGenerator rng) {
+        if (this.probability == 1.0) {
+            return 1;
+        }
+        // (0, 1] 上的均匀分布, 避免 ln 0
+        double u = 1.0 - rng.nextDouble();
+        double trials = Math.ceil(Math.log(u) * this.inverseLogComplement);
+        // u 为 1 时结果为 0, 按 1 次计
+        return trials < 1.0 ? 1 : (int) Math.min(trials, Integer.MAX_VALUE);
+    }
+}
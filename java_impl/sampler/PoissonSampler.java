@@ -0,0 +1,77 @@
+package com.nyaa.common.util.random.sampler;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 泊松分布
+ * 均值不小于 10 时使用 PTRS (Hörmann 1993, 变换拒绝法), 否则使用乘积法; 相关常量在构造时计算
+ *
+ * @see <a href="https://doi.org/10.1016/0167-6687(93)90997-4">The transformed rejection method for generating Poisson random variables</a>
+ */
+public class PoissonSampler implements DiscreteSampler {
+    private static final String BAD_MEAN = "mean must be finite, non-negative and at most 2^30";
+    private static final double MAX_MEAN = 0x1.0p30;
+    private static final double PTRS_THRESHOLD = 10.0;
+
+    private final double mean;
+    /**
+     * 乘积法: e^-mean
+     */
+    private final double expMean;
+    private final double logMean;
+    private final double a;
+    private final double b;
+    private final double logInvAlpha;
+    private final double vr;
+
+    public PoissonSampler(double mean) {
+        if (!(mean >= 0.0 && mean <= MAX_MEAN)) {
+            throw new IllegalArgumentException(BAD_MEAN);
+        }
+        this.mean = mean;
+        this.expMean = Math.exp(-mean);
+        this.logMean = Math.log(mean);
+        this.b = 0.931 + 2.53 * Math.sqrt(mean);
+        this.a = -0.059 + 0.02483 * this.b;
+        this.logInvAlpha = Math.log(1.1239 + 1.1328 / (this.b - 3.4));
+        this.vr = 0.9277 - 3.6224 / (this.b - 2.0);
+    }
+
+    public double getMean() {
+        return this.mean;
+    }
+
+    @Override
+    public int sample(RandomGenerator rng) {
+        if (this.mean >= PTRS_THRESHOLD) {
+            return this.sampleTransformedRejection(rng);
+        }
+        int k = 0;
+        double product = rng.nextDouble();
+        while (product > this.expMean) {
+            k++;
+            product *= rng.nextDouble();
+        }
+        return k;
+    }
+
+    private int sampleTransformedRejection(RandomGenerator rng) {
+        while (true) {
+            double u = rng.nextDouble() - 0.5;
+            double v = rng.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2.0 * this.a / us + this.b) * u + this.mean + 0.43);
+            if (us >= 0.07 && v <= this.vr) {
+                return (int) k;
+            }
+            if (k < 0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            // v 为 0 时 log 为 -Infinity, 直接接受
+            if (Math.log(v) + this.logInvAlpha - Math.log(this.a / (us * us) + this.b)
+                    <= -this.mean + k * this.logMean - Distributions.logGamma(k + 1.0)) {
+                return (int) k;
+            }
+        }
+    }
+}
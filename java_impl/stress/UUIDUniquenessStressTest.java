@@ -0,0 +1,53 @@
+package com.nyaa.common.util.random.stress;
+
+import com.nyaa.common.util.random.UUID;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.Z_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * 多个线程并发调用共享生成器的 UUID 工厂, 结果不得重复
+ * 以 jcstress 运行: java -jar java_impl/stress/target/jcstress.jar -t UUIDUniquenessStressTest
+ */
+@JCStressTest
+@Outcome(id = "true", expect = ACCEPTABLE, desc = "All UUIDs are distinct.")
+@Outcome(id = "false", expect = FORBIDDEN, desc = "Concurrent calls produced a duplicate UUID.")
+@State
+public class UUIDUniquenessStressTest {
+    private String v4a;
+    private String v4b;
+    private String v4c;
+    private String v7a;
+    private String v7b;
+    private String v7c;
+
+    @Actor
+    public void actor1() {
+        this.v4a = UUID.createV4().toString();
+        this.v7a = UUID.createV7().toString();
+    }
+
+    @Actor
+    public void actor2() {
+        this.v4b = UUID.createV4().toString();
+        this.v7b = UUID.createV7().toString();
+    }
+
+    @Actor
+    public void actor3() {
+        this.v4c = UUID.createV4().toString();
+        this.v7c = UUID.createV7().toString();
+    }
+
+    @Arbiter
+    public void arbiter(Z_Result result) {
+        result.r1 = !this.v4a.equals(this.v4b) && !this.v4a.equals(this.v4c) && !this.v4b.equals(this.v4c)
+                && !this.v7a.equals(this.v7b) && !this.v7a.equals(this.v7c) && !this.v7b.equals(this.v7c);
+    }
+}
@@ -0,0 +1,98 @@
+package com.nyaa.common.util.random.sampler;
+
+import com.nyaa.common.util.random.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BTPE 分支 (n·r > 30) 与精确二项分布的对照
+ */
+class BinomialSamplerTest {
+    private static final long SEED = 0x5DEECE66DL;
+
+    @Test
+    void logRatioMatchesExactPmf() {
+        assertLogRatio(1000, 0.3);
+        assertLogRatio(500, 0.9);
+        assertLogRatio(100_000, 0.02);
+    }
+
+    @Test
+    void logRatioAtKnownPoint() {
+        // n = 1000, p = 0.3, m = 300: ln(f(325) / f(300))
+        assertEquals(-1.487540752, new BinomialSampler(1000, 0.3).logRatio(325), 1e-9);
+    }
+
+    @Test
+    void samplesFollowBinomialPmf() {
+        assertChiSquare(1000, 0.3);
+        assertChiSquare(200, 0.75);
+    }
+
+    /**
+     * accept 只在挤压带 20 < |y - m| < nrq / 2 - 1 内使用 Stirling 近似, 在带内逐点比较
+     */
+    private static void assertLogRatio(int n, double p) {
+        BinomialSampler sampler = new BinomialSampler(n, p);
+        double r = Math.min(p, 1.0 - p);
+        double nrq = n * r * (1.0 - r);
+        int m = (int) Math.floor(n * r + r);
+        double[] logFactorial = logFactorials(n);
+        double logPmfM = logPmf(logFactorial, n, r, m);
+        for (int y = 0; y <= n; y++) {
+            int k = Math.abs(y - m);
+            if (k <= 20 || k >= nrq / 2.0 - 1.0) {
+                continue;
+            }
+            double exact = logPmf(logFactorial, n, r, y) - logPmfM;
+            assertEquals(exact, sampler.logRatio(y), 1e-7, "n=" + n + ", p=" + p + ", y=" + y);
+        }
+    }
+
+    private static void assertChiSquare(int n, double p) {
+        int draws = 2_000_000;
+        BinomialSampler sampler = new BinomialSampler(n, p);
+        Random random = new Random(SEED);
+        long[] counts = new long[n + 1];
+        for (int i = 0; i < draws; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // 期望频数不足 5 的相邻格合并
+        double[] logFactorial = logFactorials(n);
+        double chi2 = 0.0;
+        int bins = 0;
+        double expected = 0.0;
+        long observed = 0;
+        for (int x = 0; x <= n; x++) {
+            expected += draws * Math.exp(logPmf(logFactorial, n, p, x));
+            observed += counts[x];
+            if (expected >= 5.0 || x == n) {
+                double d = observed - expected;
+                chi2 += d * d / expected;
+                bins++;
+                expected = 0.0;
+                observed = 0;
+            }
+        }
+        int df = bins - 1;
+        // 约 6 个标准差, 固定种子下不会误报
+        double limit = df + 6.0 * Math.sqrt(2.0 * df);
+        assertTrue(chi2 < limit, "n=" + n + ", p=" + p + ", chi2=" + chi2 + ", df=" + df);
+    }
+
+    private static double[] logFactorials(int n) {
+        double[] logFactorial = new double[n + 1];
+        for (int i = 2; i <= n; i++) {
+            logFactorial[i] = logFactorial[i - 1] + Math.log(i);
+        }
+        return logFactorial;
+    }
+
+    private static double logPmf(double[] logFactorial, int n, double p, int x) {
+        return logFactorial[n] - logFactorial[x] - logFactorial[n - x]
+                + x * Math.log(p) + (n - x) * Math.log1p(-p);
+    }
+}